@@ -0,0 +1,74 @@
+package org.bomartin.tvbingo.card;
+
+import org.bomartin.tvbingo.model.Show;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drawing one card from a phrase pool. {@code draw} is the shuffle alone;
+ * {@code card} also assembles the {@link BingoCard} the controller returns, and
+ * {@code batch} is a full {@value #BATCH_SIZE}-card batch as
+ * {@link CardService#generateCards} draws it, sequentially with duplicate
+ * checks.
+ * The draw should allocate the same few 24-entry arrays whatever the pool
+ * size, so both pool sizes should cost about the same.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CardShufflerBenchmark {
+
+    private static final int BATCH_SIZE = CardService.MAX_BATCH_SIZE;
+
+    @Param({"24", "150"})
+    private int poolSize;
+
+    private Show show;
+    private CardService cardService;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        List<String> phrases = new ArrayList<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            phrases.add("Phrase " + i);
+        }
+        show = Show.builder().id(1L).showTitle("Benchmark Show").phrases(phrases).build();
+        // generateCards is given the show, so the show lookup is never used
+        cardService = new CardService(null);
+    }
+
+    @Benchmark
+    public int[] draw() {
+        return CardShuffler.draw(poolSize, seed++);
+    }
+
+    @Benchmark
+    public BingoCard card() {
+        long cardSeed = seed++;
+        return CardService.toCard(show, cardSeed, CardShuffler.draw(poolSize, cardSeed));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void batch(Blackhole blackhole) {
+        cardService.generateCards(show, seed++, BATCH_SIZE, blackhole::consume);
+    }
+}
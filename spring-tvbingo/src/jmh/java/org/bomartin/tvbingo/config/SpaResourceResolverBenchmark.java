@@ -0,0 +1,52 @@
+package org.bomartin.tvbingo.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of resolving one request path with the SPA resolver, against a
+ * classpath location like production's {@code classpath:/static/} (here
+ * {@code benchmark-static/} from src/jmh/resources). The resource chain caches
+ * resolved paths in production, so this is the cost of a cache miss: every
+ * distinct deep link and every 404 pays it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpaResourceResolverBenchmark {
+
+    /** An existing asset, a client-side route, an API miss and a missing file. */
+    @Param({"assets/app.js", "show/123", "api/shows/missing", "missing.css"})
+    private String path;
+
+    private SpaWebConfig.SpaResourceResolver resolver;
+    private Resource location;
+
+    @Setup
+    public void setUp() {
+        resolver = new SpaWebConfig.SpaResourceResolver();
+        location = new ClassPathResource("benchmark-static/");
+    }
+
+    @Benchmark
+    public Resource resolve() throws IOException {
+        return resolver.getResource(path, location);
+    }
+}
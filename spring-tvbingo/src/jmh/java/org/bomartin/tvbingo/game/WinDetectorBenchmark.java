@@ -0,0 +1,66 @@
+package org.bomartin.tvbingo.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of bitboard win detection over a pool of random boards, for every
+ * {@link WinPattern}. Run with the GC profiler ({@code ./gradlew :spring-tvbingo:jmh});
+ * gc.alloc.rate.norm should stay at ~0 B/op for every benchmark here.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WinDetectorBenchmark {
+
+    private static final int BOARDS = 1024;
+
+    private final int[] boards = new int[BOARDS];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < BOARDS; i++) {
+            // Roughly half the cells marked, plus the free center square
+            boards[i] = random.nextInt(1 << WinDetector.CELLS) | (1 << WinDetector.CENTER);
+        }
+    }
+
+    // Only hasWon takes this state, so completedLines is not repeated per pattern
+    @State(Scope.Thread)
+    public static class Pattern {
+        @Param({"LINE", "FOUR_CORNERS", "BLACKOUT", "X", "L"})
+        private WinPattern pattern;
+    }
+
+    private int nextBoard() {
+        next = (next + 1) & (BOARDS - 1);
+        return boards[next];
+    }
+
+    @Benchmark
+    public int completedLines() {
+        return WinDetector.completedLines(nextBoard());
+    }
+
+    @Benchmark
+    public boolean hasWon(Pattern state) {
+        return WinDetector.hasWon(nextBoard(), state.pattern);
+    }
+}
@@ -0,0 +1,99 @@
+package org.bomartin.tvbingo.model;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialisation of {@link Show} as the show endpoints write it: one
+ * show ({@code GET /api/shows/{id}}) and a page of {@value #PAGE_SIZE} shows
+ * ({@code GET /api/shows}), plus reading one back. The mapper comes from
+ * {@link Jackson2ObjectMapperBuilder}, which applies the same module and
+ * feature defaults Spring Boot's auto-configured mapper starts from.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShowJsonBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    /** Phrases per show: a card's worth, and the most a ShowRequest allows. */
+    @Param({"24", "150"})
+    private int phraseCount;
+
+    private ObjectWriter showWriter;
+    private ObjectWriter listWriter;
+    private ObjectReader showReader;
+    private Show show;
+    private List<Show> page;
+    private byte[] showJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        showWriter = mapper.writerFor(Show.class);
+        listWriter = mapper.writerFor(new TypeReference<List<Show>>() { });
+        showReader = mapper.readerFor(Show.class);
+
+        page = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            page.add(show(id));
+        }
+        show = page.get(0);
+        showJson = showWriter.writeValueAsBytes(show);
+    }
+
+    private Show show(long id) {
+        List<String> phrases = new ArrayList<>(phraseCount);
+        for (int i = 0; i < phraseCount; i++) {
+            phrases.add("Someone says \"phrase " + i + "\" again");
+        }
+        return Show.builder()
+                .id(id)
+                .showTitle("Benchmark Show " + id)
+                .gameTitle("Season " + id)
+                .centerSquare("FREE SPACE")
+                .phrases(phrases)
+                .version(3L)
+                .updatedAt(Instant.parse("2026-01-01T00:00:00Z"))
+                .build();
+    }
+
+    @Benchmark
+    public byte[] writeShow() throws IOException {
+        return showWriter.writeValueAsBytes(show);
+    }
+
+    @Benchmark
+    public byte[] writeShowList() throws IOException {
+        return listWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public Show readShow() throws IOException {
+        return showReader.readValue(showJson);
+    }
+}
@@ -0,0 +1,188 @@
+package org.bomartin.tvbingo.validation;
+
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-pass {@link ValidPhrasesValidator} against the two-pass validator it
+ * replaced. {@code valid} is the hot path (every accepted show and import
+ * row); {@code invalid} has a duplicate and an over-long phrase near the end,
+ * where the legacy validator reports only the duplicate and the current one
+ * reports both, so it measures message building rather than like-for-like work.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidPhrasesValidatorBenchmark {
+
+    private static final int MAX_LENGTH = 50;
+
+    @Param({"24", "150", "1000"})
+    private int size;
+
+    private List<String> valid;
+    private List<String> invalid;
+    private ValidPhrasesValidator current;
+    private LegacyValidPhrasesValidator legacy;
+    private final DiscardingContext context = new DiscardingContext();
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        valid = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            valid.add(phrase(random, i));
+        }
+        invalid = new ArrayList<>(valid);
+        invalid.set(size - 1, invalid.get(0));
+        invalid.set(size - 2, "x".repeat(MAX_LENGTH + 1));
+
+        ValidPhrases annotation = new MaxLength(MAX_LENGTH);
+        current = new ValidPhrasesValidator();
+        current.initialize(annotation);
+        legacy = new LegacyValidPhrasesValidator();
+        legacy.initialize(annotation);
+    }
+
+    // 15-45 characters, like the phrases people actually type
+    private static String phrase(SplittableRandom random, int i) {
+        StringBuilder sb = new StringBuilder("Phrase ").append(i);
+        int length = 15 + random.nextInt(31);
+        while (sb.length() < length) {
+            sb.append(' ').append((char) ('a' + random.nextInt(26))).append("ord");
+        }
+        return sb.substring(0, Math.min(sb.length(), length));
+    }
+
+    @Benchmark
+    public boolean validCurrent() {
+        return current.isValid(valid, context);
+    }
+
+    @Benchmark
+    public boolean validLegacy() {
+        return legacy.isValid(valid, context);
+    }
+
+    @Benchmark
+    public void invalidCurrent(Blackhole blackhole) {
+        blackhole.consume(current.isValid(invalid, context));
+        blackhole.consume(context.template);
+    }
+
+    @Benchmark
+    public void invalidLegacy(Blackhole blackhole) {
+        blackhole.consume(legacy.isValid(invalid, context));
+        blackhole.consume(context.template);
+    }
+
+    private record MaxLength(int maxLength) implements ValidPhrases {
+        @Override
+        public String message() {
+            return "";
+        }
+
+        @Override
+        public Class<?>[] groups() {
+            return new Class<?>[0];
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Class<? extends Payload>[] payload() {
+            return new Class[0];
+        }
+
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return ValidPhrases.class;
+        }
+    }
+
+    /**
+     * Keeps the last message template so it is not dead code; Hibernate
+     * Validator's own bookkeeping is left out of both measurements.
+     */
+    private static final class DiscardingContext implements ConstraintValidatorContext,
+            ConstraintValidatorContext.ConstraintViolationBuilder {
+        private String template;
+
+        @Override
+        public void disableDefaultConstraintViolation() {
+        }
+
+        @Override
+        public String getDefaultConstraintMessageTemplate() {
+            return "";
+        }
+
+        @Override
+        public ClockProvider getClockProvider() {
+            return null;
+        }
+
+        @Override
+        public ConstraintViolationBuilder buildConstraintViolationWithTemplate(String messageTemplate) {
+            this.template = messageTemplate;
+            return this;
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public NodeBuilderDefinedContext addNode(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public NodeBuilderCustomizableContext addPropertyNode(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public LeafNodeBuilderCustomizableContext addBeanNode() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ContainerElementNodeBuilderCustomizableContext addContainerElementNode(
+                String name, Class<?> containerType, Integer typeArgumentIndex) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public NodeBuilderDefinedContext addParameterNode(int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ConstraintValidatorContext addConstraintViolation() {
+            return this;
+        }
+    }
+}
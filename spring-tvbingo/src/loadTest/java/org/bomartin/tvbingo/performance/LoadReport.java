@@ -0,0 +1,156 @@
+package org.bomartin.tvbingo.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.bomartin.tvbingo.performance.ShowLoadTest.Operation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Results of one {@link ShowLoadTest} run: per-operation latency percentiles,
+ * throughput and error counts, plus the run's options so two reports can be
+ * checked for comparable settings. Stored as JSON so a report from a known-good
+ * build can be kept as the baseline for later runs.
+ */
+final class LoadReport {
+    private static final String TOTAL = "total";
+
+    private final Map<String, String> options;
+    private final double seconds;
+    // Operation name (lower case) or "total" to its figures, in Operation order
+    private final Map<String, Stats> operations;
+
+    private LoadReport(Map<String, String> options, double seconds, Map<String, Stats> operations) {
+        this.options = options;
+        this.seconds = seconds;
+        this.operations = operations;
+    }
+
+    record Stats(long count, long errors, double throughput,
+                 double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+
+        static Stats of(Histogram histogram, long errors, double seconds) {
+            return new Stats(histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    /**
+     * Builds the report from the interval recorded since the last reset.
+     * Operations that were not in the mix are left out.
+     */
+    static LoadReport of(Map<String, String> options, Operation[] mix, long measuredNanos,
+                         Map<Operation, Recorder> recorders, Map<Operation, LongAdder> errors) {
+        double seconds = measuredNanos / 1e9;
+        Map<String, Stats> operations = new LinkedHashMap<>();
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = recorders.get(operation).getIntervalHistogram();
+            long failed = errors.get(operation).sum();
+            if (histogram.getTotalCount() == 0 && failed == 0 && !inMix(mix, operation)) {
+                continue;
+            }
+            operations.put(operation.name().toLowerCase(), Stats.of(histogram, failed, seconds));
+            total.add(histogram);
+            totalErrors += failed;
+        }
+        operations.put(TOTAL, Stats.of(total, totalErrors, seconds));
+        return new LoadReport(new TreeMap<>(options), seconds, operations);
+    }
+
+    private static boolean inMix(Operation[] mix, Operation operation) {
+        for (Operation entry : mix) {
+            if (entry == operation) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    long failedRequests() {
+        return operations.get(TOTAL).errors();
+    }
+
+    void print() {
+        System.out.printf("%-8s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        operations.forEach((name, stats) -> System.out.printf(
+                "%-8s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, stats.count(), stats.errors(), stats.throughput(),
+                stats.p50Ms(), stats.p90Ms(), stats.p99Ms(), stats.p999Ms(), stats.maxMs()));
+    }
+
+    void write(Path path, ObjectMapper objectMapper) throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.set("options", objectMapper.valueToTree(options));
+        root.put("seconds", seconds);
+        root.set("operations", objectMapper.valueToTree(operations));
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), root);
+    }
+
+    static LoadReport read(Path path, ObjectMapper objectMapper) throws IOException {
+        JsonNode root = objectMapper.readTree(path.toFile());
+        Map<String, String> options = new TreeMap<>();
+        root.path("options").properties().forEach(e -> options.put(e.getKey(), e.getValue().asText()));
+        Map<String, Stats> operations = new LinkedHashMap<>();
+        root.path("operations").properties().forEach(e ->
+                operations.put(e.getKey(), objectMapper.convertValue(e.getValue(), Stats.class)));
+        return new LoadReport(options, root.path("seconds").asDouble(), operations);
+    }
+
+    /**
+     * Prints how each operation moved against a baseline and reports whether
+     * any p99 rose, or any throughput fell, by more than {@code tolerance}
+     * (0.10 = 10%). Options that differ from the baseline's are listed, since
+     * they usually explain a large difference.
+     *
+     * @return true if nothing regressed beyond the tolerance
+     */
+    boolean compareTo(LoadReport baseline, double tolerance) {
+        Map<String, String> keys = new TreeMap<>(options);
+        baseline.options.forEach(keys::putIfAbsent);
+        keys.keySet().stream()
+                .filter(key -> !key.equals("report") && !key.equals("baseline"))
+                .filter(key -> !String.valueOf(options.get(key)).equals(String.valueOf(baseline.options.get(key))))
+                .forEach(key -> System.out.printf("Option %s differs: baseline %s, this run %s%n",
+                        key, baseline.options.get(key), options.get(key)));
+
+        boolean passed = true;
+        System.out.printf("%-8s %14s %14s %14s %14s%n", "", "base p99 ms", "p99 ms", "base req/s", "req/s");
+        for (Map.Entry<String, Stats> entry : operations.entrySet()) {
+            Stats base = baseline.operations.get(entry.getKey());
+            if (base == null) {
+                continue;
+            }
+            Stats current = entry.getValue();
+            boolean slower = current.p99Ms() > base.p99Ms() * (1 + tolerance);
+            boolean fewer = current.throughput() < base.throughput() * (1 - tolerance);
+            System.out.printf("%-8s %14.2f %14.2f %14.1f %14.1f%s%n", entry.getKey(),
+                    base.p99Ms(), current.p99Ms(), base.throughput(), current.throughput(),
+                    slower || fewer ? "  REGRESSED" : "");
+            passed &= !slower && !fewer;
+        }
+        return passed;
+    }
+}
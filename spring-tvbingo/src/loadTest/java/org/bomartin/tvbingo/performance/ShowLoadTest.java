@@ -0,0 +1,377 @@
+package org.bomartin.tvbingo.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.bomartin.tvbingo.TvbingoApplication;
+import org.bomartin.tvbingo.dto.ShowBatchRequest;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load test for the show endpoints over real HTTP.
+ *
+ * <p>Unlike {@code PerformanceTests}, which goes through MockMvc, this boots the
+ * whole application on a random port against an embedded Postgres migrated by
+ * Liquibase, so requests pass through Tomcat, the virtual-thread executor, the
+ * Hikari pool and real sockets. It seeds {@code shows} shows, then runs
+ * {@code clients} virtual-thread clients that each pick operations from
+ * {@code mix} until {@code durationSeconds} have passed. Latencies from the
+ * first {@code warmupSeconds} are discarded.
+ *
+ * <p>Clients are closed-loop by default: each sends its next request as soon
+ * as the last one returns. With {@code paceMillis} set, each client instead
+ * aims for one request per interval and latency is measured from when the
+ * request was due, so a stalled server is charged for the requests it held
+ * up (coordinated omission).
+ *
+ * <p>Per-operation HdrHistogram percentiles and throughput are written as JSON
+ * to {@code report}. If {@code baseline} names an earlier report, p99 and
+ * throughput are compared against it within {@code tolerance}.
+ *
+ * <p>Run with {@code ./gradlew :spring-tvbingo:showsLoadTest -Pclients=2000
+ * -PdurationSeconds=60 -Pmix=get:60,list:15,search:10,create:5,update:8,delete:2
+ * -Pbaseline=load-baseline.json}. Arguments are {@code key=value}; the process
+ * needs a file descriptor limit above the client count ({@code ulimit -n}).
+ *
+ * <p>Exits with status 1 if any request failed or the baseline comparison found
+ * a regression.
+ */
+public final class ShowLoadTest {
+    // One HttpClient runs one selector thread; spread connections so the client
+    // side is not what gets measured
+    private static final int CONNECTIONS_PER_CLIENT = 1000;
+    private static final int SEED_BATCH = ShowBatchRequest.MAX_ITEMS;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] SEARCH_TERMS = {"office", "lost", "show", "friends", "load", "night"};
+    private static final Map<String, String> DEFAULTS = Map.of(
+            "clients", "1000",
+            "durationSeconds", "60",
+            "warmupSeconds", "10",
+            "shows", "1000",
+            "paceMillis", "0",
+            "mix", "get:60,list:15,search:10,create:5,update:8,delete:2",
+            "report", "build/reports/load/shows.json");
+
+    enum Operation {
+        GET, LIST, SEARCH, CREATE, UPDATE, DELETE
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, String> options;
+    private final int clients;
+    private final int durationSeconds;
+    private final int warmupSeconds;
+    private final int shows;
+    private final long paceNanos;
+    private final Operation[] mix;
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    private String baseUrl;
+    private List<Long> seededIds;
+    private volatile boolean measuring;
+    private volatile boolean stopped;
+
+    private ShowLoadTest(Map<String, String> options) {
+        this.options = options;
+        this.clients = Integer.parseInt(options.get("clients"));
+        this.durationSeconds = Integer.parseInt(options.get("durationSeconds"));
+        this.warmupSeconds = Integer.parseInt(options.get("warmupSeconds"));
+        this.shows = Integer.parseInt(options.get("shows"));
+        this.paceNanos = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(options.get("paceMillis")));
+        this.mix = parseMix(options.get("mix"));
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(DEFAULTS);
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq < 1) {
+                throw new IllegalArgumentException("Expected key=value, got " + arg);
+            }
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        boolean passed = new ShowLoadTest(options).run();
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * Expands "get:60,list:20,..." into a 100-slot table (or however many the
+     * weights add up to) so picking an operation is one array lookup.
+     */
+    static Operation[] parseMix(String spec) {
+        List<Operation> table = new ArrayList<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight, got " + entry);
+            }
+            Operation operation = Operation.valueOf(parts[0].trim().toUpperCase());
+            int weight = Integer.parseInt(parts[1].trim());
+            for (int i = 0; i < weight; i++) {
+                table.add(operation);
+            }
+        }
+        if (table.isEmpty()) {
+            throw new IllegalArgumentException("The mix needs at least one operation with a positive weight");
+        }
+        return table.toArray(new Operation[0]);
+    }
+
+    private boolean run() throws Exception {
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            try (Connection connection = postgres.getPostgresDatabase().getConnection();
+                 Statement statement = connection.createStatement()) {
+                // Liquibase keeps its changelog table in the default schema
+                statement.execute("CREATE SCHEMA IF NOT EXISTS tvbingo_schema");
+            }
+            String jdbcUrl = "jdbc:postgresql://localhost:" + postgres.getPort() + "/postgres?currentSchema=tvbingo_schema";
+
+            try (ConfigurableApplicationContext app = new SpringApplicationBuilder(TvbingoApplication.class)
+                    .bannerMode(Banner.Mode.OFF)
+                    .run("--server.port=0",
+                         "--spring.datasource.url=" + jdbcUrl,
+                         "--spring.datasource.username=postgres",
+                         "--spring.datasource.password=postgres",
+                         "--spring.output.ansi.enabled=NEVER",
+                         "--logging.level.root=WARN")) {
+                int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+                baseUrl = "http://localhost:" + port;
+                System.out.printf("Application started on port %d%n", port);
+
+                seededIds = seed();
+                System.out.printf("Seeded %d shows%n", seededIds.size());
+
+                long measuredNanos = drive();
+                LoadReport report = LoadReport.of(options, mix, measuredNanos, recorders, errors);
+                report.print();
+                Path reportPath = Path.of(options.get("report"));
+                report.write(reportPath, objectMapper);
+                System.out.printf("Report written to %s%n", reportPath.toAbsolutePath());
+
+                boolean passed = report.failedRequests() == 0;
+                if (report.failedRequests() > 0) {
+                    System.out.printf("%d requests failed%n", report.failedRequests());
+                }
+                String baseline = options.get("baseline");
+                if (baseline != null) {
+                    double tolerance = Double.parseDouble(options.getOrDefault("tolerance", "0.10"));
+                    passed &= report.compareTo(LoadReport.read(Path.of(baseline), objectMapper), tolerance);
+                }
+                return passed;
+            }
+        }
+    }
+
+    private List<Long> seed() throws Exception {
+        HttpClient http = newHttpClient();
+        List<Long> ids = new ArrayList<>(shows);
+        for (int from = 0; from < shows; from += SEED_BATCH) {
+            List<Map<String, Object>> creates = new ArrayList<>();
+            for (int i = from; i < Math.min(shows, from + SEED_BATCH); i++) {
+                creates.add(showBody(seededTitle(i)));
+            }
+            HttpResponse<String> response = http.send(json(URI.create(baseUrl + "/api/shows/batch"))
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            objectMapper.writeValueAsString(Map.of("create", creates))))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding failed with " + response.statusCode() + ": " + response.body());
+            }
+            for (JsonNode item : objectMapper.readTree(response.body()).get("created")) {
+                if (item.hasNonNull("id")) {
+                    ids.add(item.get("id").asLong());
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Runs the clients through warm-up and measurement.
+     *
+     * @return the length of the measured interval in nanoseconds
+     */
+    private long drive() throws InterruptedException {
+        List<HttpClient> httpClients = new ArrayList<>();
+        for (int i = 0; i < clients; i += CONNECTIONS_PER_CLIENT) {
+            httpClients.add(newHttpClient());
+        }
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < clients; i++) {
+            HttpClient http = httpClients.get(i / CONNECTIONS_PER_CLIENT);
+            executor.execute(new Client(i, http));
+        }
+        System.out.printf("Started %d clients; warming up for %d s%n", clients, warmupSeconds);
+
+        TimeUnit.SECONDS.sleep(warmupSeconds);
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+        measuring = true;
+        long start = System.nanoTime();
+        System.out.printf("Measuring for %d s%n", durationSeconds);
+
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        measuring = false;
+        long measured = System.nanoTime() - start;
+        stopped = true;
+        executor.shutdown();
+        if (!executor.awaitTermination(REQUEST_TIMEOUT.toSeconds() + 5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+        return measured;
+    }
+
+    private final class Client implements Runnable {
+        private final int id;
+        private final HttpClient http;
+        private final SplittableRandom random;
+        // Shows this client created and has not deleted yet
+        private final Deque<Long> created = new ArrayDeque<>();
+        private int nextTitle;
+
+        private Client(int id, HttpClient http) {
+            this.id = id;
+            this.http = http;
+            this.random = new SplittableRandom(id);
+        }
+
+        @Override
+        public void run() {
+            long due = System.nanoTime();
+            while (!stopped) {
+                if (paceNanos > 0) {
+                    due += paceNanos;
+                    long wait = due - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                } else {
+                    due = System.nanoTime();
+                }
+
+                Operation operation = mix[random.nextInt(mix.length)];
+                if (operation == Operation.DELETE && created.isEmpty()) {
+                    operation = Operation.CREATE;
+                }
+                boolean ok;
+                try {
+                    ok = send(operation);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    ok = false;
+                }
+                if (!measuring) {
+                    continue;
+                }
+                if (ok) {
+                    recorders.get(operation).recordValue(System.nanoTime() - due);
+                } else {
+                    errors.get(operation).increment();
+                }
+            }
+        }
+
+        private boolean send(Operation operation) throws Exception {
+            HttpRequest request = switch (operation) {
+                case GET -> get("/api/shows/" + randomSeededId());
+                case LIST -> get("/api/shows?limit=50&after=" + (random.nextBoolean() ? 0 : randomSeededId()));
+                case SEARCH -> get("/api/shows/search?q=" + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)]);
+                case CREATE -> json(URI.create(baseUrl + "/api/shows"))
+                        .POST(body(showBody("Load client " + id + " show " + nextTitle++)))
+                        .build();
+                case UPDATE -> {
+                    int index = random.nextInt(seededIds.size());
+                    yield json(URI.create(baseUrl + "/api/shows/" + seededIds.get(index)))
+                            .PUT(body(showBody(seededTitle(index))))
+                            .build();
+                }
+                case DELETE -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/shows/" + created.peek()))
+                        .timeout(REQUEST_TIMEOUT)
+                        .DELETE()
+                        .build();
+            };
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            int status = response.statusCode();
+            if (operation == Operation.CREATE && status == 201) {
+                created.push(objectMapper.readTree(response.body()).get("id").asLong());
+            } else if (operation == Operation.DELETE) {
+                created.pop();
+            }
+            return status >= 200 && status < 300;
+        }
+
+        private long randomSeededId() {
+            return seededIds.get(random.nextInt(seededIds.size()));
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+        }
+
+        private HttpRequest.BodyPublisher body(Object value) throws Exception {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(value));
+        }
+    }
+
+    private static HttpClient newHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+    }
+
+    private static HttpRequest.Builder json(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+    }
+
+    private static String seededTitle(int index) {
+        return "Load show " + index;
+    }
+
+    private static Map<String, Object> showBody(String title) {
+        List<String> phrases = new ArrayList<>(30);
+        for (int i = 0; i < 30; i++) {
+            phrases.add("Load phrase " + i);
+        }
+        return Map.of("showTitle", title, "gameTitle", "Load game", "phrases", phrases);
+    }
+}
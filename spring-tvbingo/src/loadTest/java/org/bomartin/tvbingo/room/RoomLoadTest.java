@@ -0,0 +1,208 @@
+package org.bomartin.tvbingo.room;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load test for room broadcasts against a running server.
+ *
+ * <p>Creates a throwaway show and room, connects {@code clients} WebSocket
+ * members, has the host call {@code calls} phrases one after another and
+ * measures, for every member, the time from the call request being sent to the
+ * event arriving. The show is deleted afterwards.
+ *
+ * <p>Run with {@code ./gradlew :spring-tvbingo:roomLoadTest -PbaseUrl=http://localhost:8080
+ * -Pclients=10000 -Pcalls=20}. Both the server and this process need a file
+ * descriptor limit above the client count ({@code ulimit -n}).
+ *
+ * <p>Exits with status 1 if any member missed an event.
+ */
+public final class RoomLoadTest {
+    // One HttpClient runs one selector thread; spread sockets so the client side
+    // is not what gets measured
+    private static final int SOCKETS_PER_CLIENT = 1000;
+    private static final int MAX_PENDING_CONNECTS = 500;
+    private static final Duration EVENT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient http = HttpClient.newHttpClient();
+    private final String baseUrl;
+    private final int clients;
+    private final int calls;
+
+    private volatile Round round;
+
+    private RoomLoadTest(String baseUrl, int clients, int calls) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.clients = clients;
+        this.calls = calls;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int calls = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        boolean complete = new RoomLoadTest(baseUrl, clients, calls).run();
+        System.exit(complete ? 0 : 1);
+    }
+
+    private boolean run() throws Exception {
+        List<String> phrases = new ArrayList<>();
+        for (int i = 0; i < Math.max(calls, 24); i++) {
+            phrases.add("Load phrase " + i);
+        }
+        JsonNode show = post("/api/shows", Map.of(
+                "showTitle", "Room load test " + System.currentTimeMillis(),
+                "phrases", phrases), null);
+        long showId = show.get("id").asLong();
+        try {
+            JsonNode room = post("/api/rooms", Map.of("showId", showId), null);
+            long roomId = room.get("id").asLong();
+            String hostKey = room.get("hostKey").asText();
+
+            List<WebSocket> sockets = connect(roomId);
+            System.out.printf("Connected %d members%n", sockets.size());
+
+            long[] all = new long[clients * calls];
+            int total = 0;
+            boolean complete = true;
+            for (int i = 0; i < calls; i++) {
+                Round current = new Round(clients);
+                round = current;
+                current.startedAt = System.nanoTime();
+                post("/api/rooms/" + roomId + "/calls", Map.of("phrase", phrases.get(i)), hostKey);
+                boolean delivered = current.latch.await(EVENT_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+                int received = current.received.get();
+                long[] latencies = Arrays.copyOf(current.latencies, received);
+                Arrays.sort(latencies);
+                System.out.printf("Call %2d: %d/%d delivered, p50 %s, p99 %s, max %s%n", i + 1, received, clients,
+                        millis(percentile(latencies, 50)), millis(percentile(latencies, 99)),
+                        millis(percentile(latencies, 100)));
+                System.arraycopy(latencies, 0, all, total, received);
+                total += received;
+                complete &= delivered;
+            }
+
+            long[] latencies = Arrays.copyOf(all, total);
+            Arrays.sort(latencies);
+            System.out.printf("All calls: %d/%d delivered, p50 %s, p99 %s, p99.9 %s, max %s%n",
+                    total, clients * calls, millis(percentile(latencies, 50)), millis(percentile(latencies, 99)),
+                    millis(percentile(latencies, 99.9)), millis(percentile(latencies, 100)));
+
+            delete("/api/rooms/" + roomId, hostKey);
+            sockets.forEach(WebSocket::abort);
+            return complete;
+        } finally {
+            delete("/api/shows/" + showId, null);
+        }
+    }
+
+    private List<WebSocket> connect(long roomId) throws InterruptedException {
+        URI uri = URI.create(baseUrl.replaceFirst("^http", "ws") + "/ws/rooms/" + roomId);
+        Semaphore pending = new Semaphore(MAX_PENDING_CONNECTS);
+        List<CompletableFuture<WebSocket>> futures = new ArrayList<>(clients);
+        HttpClient client = null;
+        for (int i = 0; i < clients; i++) {
+            if (i % SOCKETS_PER_CLIENT == 0) {
+                client = HttpClient.newHttpClient();
+            }
+            pending.acquire();
+            futures.add(client.newWebSocketBuilder()
+                    .buildAsync(uri, new Member())
+                    .whenComplete((socket, error) -> pending.release()));
+        }
+        List<WebSocket> sockets = new ArrayList<>(clients);
+        for (CompletableFuture<WebSocket> future : futures) {
+            sockets.add(future.join());
+        }
+        return sockets;
+    }
+
+    private JsonNode post(String path, Object body, String hostKey) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        if (hostKey != null) {
+            request.header(RoomController.HOST_KEY_HEADER, hostKey);
+        }
+        HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("POST " + path + " returned " + response.statusCode()
+                    + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private void delete(String path, String hostKey) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path)).DELETE();
+        if (hostKey != null) {
+            request.header(RoomController.HOST_KEY_HEADER, hostKey);
+        }
+        http.send(request.build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f ms", nanos / 1_000_000.0);
+    }
+
+    private static final class Round {
+        private final CountDownLatch latch;
+        private final long[] latencies;
+        private final AtomicInteger received = new AtomicInteger();
+        private volatile long startedAt;
+
+        private Round(int clients) {
+            this.latch = new CountDownLatch(clients);
+            this.latencies = new long[clients];
+        }
+    }
+
+    private final class Member implements WebSocket.Listener {
+        private final StringBuilder partial = new StringBuilder();
+
+        @Override
+        public CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+            partial.append(data);
+            if (last) {
+                long arrivedAt = System.nanoTime();
+                String json = partial.toString();
+                partial.setLength(0);
+                Round current = round;
+                if (current != null && json.contains("\"PHRASE_CALLED\"")) {
+                    int slot = current.received.getAndIncrement();
+                    if (slot < current.latencies.length) {
+                        current.latencies[slot] = arrivedAt - current.startedAt;
+                    }
+                    current.latch.countDown();
+                }
+            }
+            socket.request(1);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.bomartin.tvbingo.card;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A generated 5x5 bingo card. {@code phrases} holds the 24 outer squares in
+ * row-major order with the center skipped; the center square sits between
+ * {@code phrases[11]} and {@code phrases[12]}.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BingoCard {
+    private Long showId;
+    private long seed;
+    private String centerSquare;
+    private List<String> phrases;
+}
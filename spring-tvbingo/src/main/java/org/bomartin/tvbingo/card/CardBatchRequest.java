@@ -0,0 +1,19 @@
+package org.bomartin.tvbingo.card;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class CardBatchRequest {
+    @NotNull(message = "count is required")
+    @Min(value = 1, message = "count must be at least 1")
+    @Max(value = CardService.MAX_BATCH_SIZE, message = "count must be at most " + CardService.MAX_BATCH_SIZE)
+    private Integer count;
+
+    // Optional: the same seed reproduces the same batch for an unchanged phrase list.
+    @Min(value = -CardService.MAX_SEED, message = CardService.SEED_RANGE_MSG)
+    @Max(value = CardService.MAX_SEED, message = CardService.SEED_RANGE_MSG)
+    private Long seed;
+}
@@ -0,0 +1,97 @@
+package org.bomartin.tvbingo.card;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.bomartin.tvbingo.jdbc.ReplicaReads;
+import org.bomartin.tvbingo.model.Show;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * REST controller for generating bingo cards server-side, so clients receive
+ * only the squares on their card rather than the show's whole phrase pool.
+ */
+@RestController
+@RequestMapping("/api/shows/{id}/cards")
+@ReplicaReads
+public class CardController {
+    private static final String SHOW_NOT_FOUND_MSG = "Show not found with id: ";
+
+    private final CardService cardService;
+    private final ObjectWriter cardWriter;
+
+    @Autowired
+    public CardController(CardService cardService, ObjectMapper objectMapper) {
+        this.cardService = cardService;
+        this.cardWriter = objectMapper.writerFor(BingoCard.class);
+    }
+
+    /**
+     * Generates a bingo card for a show.
+     *
+     * @param id the ID of the show
+     * @param request optional body carrying the seed to draw with
+     * @return the 24 drawn phrases, the center square and the seed used
+     * @throws ResponseStatusException if the show is not found
+     */
+    @PostMapping
+    public BingoCard createCard(@PathVariable Long id,
+                                @Valid @RequestBody(required = false) CardRequest request) {
+        Long seed = request != null ? request.getSeed() : null;
+        return cardService.generateCard(id, seed)
+                .orElseThrow(() -> new ResponseStatusException(
+                    HttpStatus.NOT_FOUND, SHOW_NOT_FOUND_MSG + id));
+    }
+
+    /**
+     * Generates a batch of distinct bingo cards for a show, streamed as NDJSON
+     * (one card per line) so the first cards arrive before the last are drawn.
+     *
+     * @param id the ID of the show
+     * @param request the number of cards and optional batch seed
+     * @param response the response the cards are streamed to
+     * @throws IOException if the response cannot be written
+     * @throws ResponseStatusException if the show is not found
+     */
+    @PostMapping("/batch")
+    public void createCards(@PathVariable Long id,
+                            @Valid @RequestBody CardBatchRequest request,
+                            HttpServletResponse response) throws IOException {
+        Show show = cardService.findShow(id)
+                .orElseThrow(() -> new ResponseStatusException(
+                    HttpStatus.NOT_FOUND, SHOW_NOT_FOUND_MSG + id));
+
+        int[] written = {0};
+        cardService.generateCards(show, request.getSeed(), request.getCount(), card -> {
+            try {
+                // Set on the first card, not up front: generateCards validates the
+                // show before drawing, and an error must still be rendered as JSON.
+                if (written[0] == 0) {
+                    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+                }
+                ServletOutputStream out = response.getOutputStream();
+                out.write(cardWriter.writeValueAsBytes(card));
+                out.write('\n');
+                if (++written[0] % CardService.BATCH_CHUNK_SIZE == 0) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        response.flushBuffer();
+    }
+}
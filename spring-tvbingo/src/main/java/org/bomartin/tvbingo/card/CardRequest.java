@@ -0,0 +1,14 @@
+package org.bomartin.tvbingo.card;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+public class CardRequest {
+    // Optional: the same seed always yields the same card for an unchanged phrase
+    // list. When omitted the server picks one and returns it with the card.
+    @Min(value = -CardService.MAX_SEED, message = CardService.SEED_RANGE_MSG)
+    @Max(value = CardService.MAX_SEED, message = CardService.SEED_RANGE_MSG)
+    private Long seed;
+}
@@ -0,0 +1,129 @@
+package org.bomartin.tvbingo.card;
+
+import org.bomartin.tvbingo.model.Show;
+import org.bomartin.tvbingo.service.ShowService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+@Service
+public class CardService {
+    static final String DEFAULT_CENTER_SQUARE = "FREE SPACE";
+    static final int MAX_BATCH_SIZE = 1000;
+
+    // Largest seed a JavaScript number holds exactly (Number.MAX_SAFE_INTEGER).
+    // Seeds are shared and replayed through the browser, so requests are held
+    // to +/- this and generated seeds stay within it.
+    public static final long MAX_SEED = (1L << 53) - 1;
+    public static final String SEED_RANGE_MSG =
+            "seed must be between -" + MAX_SEED + " and " + MAX_SEED;
+
+    // Cards streamed between flushes of a batch response (see CardController), so
+    // the first cards reach the client while later ones are still being drawn.
+    static final int BATCH_CHUNK_SIZE = 64;
+
+    private final ShowService showService;
+
+    @Autowired
+    public CardService(ShowService showService) {
+        this.showService = showService;
+    }
+
+    /**
+     * Generates a card for a show, reading phrases through the show cache.
+     *
+     * @param showId the show to draw phrases from
+     * @param seed the seed to draw with, or null to pick a random one
+     * @return the card, or empty if the show does not exist
+     * @throws IllegalArgumentException if the show has fewer than 24 phrases
+     */
+    public Optional<BingoCard> generateCard(Long showId, Long seed) {
+        long effectiveSeed = resolveSeed(seed);
+        return showService.getShow(showId).map(show -> generateCard(show, effectiveSeed));
+    }
+
+    /**
+     * Looks up a show through the show cache, for callers that need it before
+     * generating a batch of cards.
+     *
+     * @param showId the ID of the show
+     * @return the show, or empty if it does not exist
+     */
+    public Optional<Show> findShow(Long showId) {
+        return showService.getShow(showId);
+    }
+
+    /**
+     * Generates {@code count} distinct cards for one show and passes them to
+     * {@code sink} in order. The show's phrases are read once, and cards are drawn
+     * one at a time on the calling thread: a draw is 24 random numbers, too
+     * little work to be worth handing to another thread (see
+     * {@code CardShufflerBenchmark.batch}).
+     *
+     * <p>Card {@code i} is drawn with {@link CardShuffler#deriveSeed} of the batch
+     * seed, so a batch is reproducible from its seed. A card that repeats an
+     * earlier arrangement is redrawn with the next unused derived seed.
+     *
+     * @param show the show to draw phrases from
+     * @param batchSeed the batch seed, or null to pick a random one
+     * @param count number of cards to generate, 1 to {@value #MAX_BATCH_SIZE}
+     * @param sink receives each card, on the calling thread
+     * @throws IllegalArgumentException if count is out of range or the show has
+     *         fewer than 24 phrases
+     */
+    public void generateCards(Show show, Long batchSeed, int count, Consumer<BingoCard> sink) {
+        if (count < 1 || count > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("count must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        int poolSize = show.getPhrases() == null ? 0 : show.getPhrases().size();
+        CardShuffler.requirePoolSize(poolSize);
+
+        long seed = resolveSeed(batchSeed);
+        Set<IntBuffer> seen = new HashSet<>(count * 2);
+        int nextSpareIndex = count;
+        for (int i = 0; i < count; i++) {
+            long cardSeed = CardShuffler.deriveSeed(seed, i);
+            int[] indices = CardShuffler.draw(poolSize, cardSeed);
+            // IntBuffer gives content-based equals/hashCode over the drawn indices
+            while (!seen.add(IntBuffer.wrap(indices))) {
+                cardSeed = CardShuffler.deriveSeed(seed, nextSpareIndex++);
+                indices = CardShuffler.draw(poolSize, cardSeed);
+            }
+            sink.accept(toCard(show, cardSeed, indices));
+        }
+    }
+
+    // Generated seeds stay within MAX_SEED so they survive a round trip through
+    // JavaScript numbers, which the card has to do to be reproduced later.
+    private static long resolveSeed(Long seed) {
+        return seed != null ? seed : ThreadLocalRandom.current().nextLong(1L << 53);
+    }
+
+    BingoCard generateCard(Show show, long seed) {
+        int poolSize = show.getPhrases() == null ? 0 : show.getPhrases().size();
+        return toCard(show, seed, CardShuffler.draw(poolSize, seed));
+    }
+
+    static BingoCard toCard(Show show, long seed, int[] indices) {
+        List<String> pool = show.getPhrases();
+        String[] squares = new String[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            squares[i] = pool.get(indices[i]);
+        }
+        String center = show.getCenterSquare();
+        return BingoCard.builder()
+                .showId(show.getId())
+                .seed(seed)
+                .centerSquare(center == null || center.isBlank() ? DEFAULT_CENTER_SQUARE : center)
+                .phrases(Arrays.asList(squares))
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package org.bomartin.tvbingo.card;
+
+/**
+ * Seeded selection of the phrases on a bingo card.
+ *
+ * <p>Runs a partial Fisher-Yates shuffle over phrase indices: only the
+ * {@value #SQUARES} positions that end up on the card are shuffled. The shuffle
+ * is sparse: instead of an array of the whole pool it records just the
+ * positions earlier swaps moved (at most {@value #SQUARES}), so a draw costs 24
+ * random numbers and a few small arrays regardless of how many phrases the show
+ * has. Phrases themselves are never copied.
+ *
+ * <p>The random sequence is SplitMix64 implemented here rather than
+ * {@link java.util.Random}, so a given seed and phrase list produce the same
+ * card on every JVM and release.
+ */
+final class CardShuffler {
+
+    /** Squares drawn from the phrase pool: a 5x5 grid minus the center square. */
+    static final int SQUARES = 24;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private CardShuffler() {
+    }
+
+    /**
+     * Draws {@value #SQUARES} distinct indices into a pool of {@code poolSize}
+     * phrases, in card order.
+     *
+     * @param poolSize number of phrases available; at least {@value #SQUARES}
+     * @param seed seed that fully determines the draw
+     * @return indices of the phrases for each non-center square
+     */
+    static int[] draw(int poolSize, long seed) {
+        requirePoolSize(poolSize);
+        int[] card = new int[SQUARES];
+        // Positions moved by earlier swaps and the index each now holds; every
+        // other position still holds its own index
+        int[] movedPositions = new int[SQUARES];
+        int[] movedIndices = new int[SQUARES];
+        int moved = 0;
+        long state = seed;
+        for (int i = 0; i < SQUARES; i++) {
+            state += GOLDEN_GAMMA;
+            int j = i + boundedInt(mix(state), poolSize - i);
+            int atI = i;
+            int atJ = j;
+            int slotJ = -1;
+            for (int k = 0; k < moved; k++) {
+                if (movedPositions[k] == i) {
+                    atI = movedIndices[k];
+                }
+                if (movedPositions[k] == j) {
+                    atJ = movedIndices[k];
+                    slotJ = k;
+                }
+            }
+            card[i] = atJ;
+            // Position i is never read again, so only j's new index is recorded
+            if (j != i) {
+                if (slotJ < 0) {
+                    slotJ = moved++;
+                    movedPositions[slotJ] = j;
+                }
+                movedIndices[slotJ] = atI;
+            }
+        }
+        return card;
+    }
+
+    /**
+     * Checks that a phrase pool is large enough to fill a card.
+     *
+     * @param poolSize number of phrases available
+     * @throws IllegalArgumentException if there are fewer than {@value #SQUARES}
+     */
+    static void requirePoolSize(int poolSize) {
+        if (poolSize < SQUARES) {
+            throw new IllegalArgumentException("A bingo card needs at least " + SQUARES + " phrases");
+        }
+    }
+
+    /**
+     * Derives the seed of the {@code index}-th card of a batch from the batch seed.
+     * Each derived seed is the top 53 bits of a SplitMix64 output, so consecutive
+     * cards draw from unrelated sequences rather than overlapping shifts of the
+     * same one, and a card's seed can be sent back from a browser unchanged.
+     * {@link #draw} mixes the seed again, so the missing low bits cost nothing.
+     *
+     * @param batchSeed seed of the whole batch
+     * @param index position of the card within the batch
+     * @return the seed to draw that card with
+     */
+    static long deriveSeed(long batchSeed, int index) {
+        return mix(batchSeed + (index + 1L) * GOLDEN_GAMMA) >>> 11;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // Multiply-shift reduction of the top 32 bits into [0, bound); the bias is
+    // negligible for phrase pools of a few hundred entries.
+    private static int boundedInt(long random, int bound) {
+        return (int) (((random >>> 32) * bound) >>> 32);
+    }
+}
@@ -0,0 +1,57 @@
+package org.bomartin.tvbingo.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Enables the in-process show cache.
+ *
+ * <p>The cache provider, size bound and TTL come from {@code spring.cache.*} in
+ * application.yml (Caffeine). Cache statistics are recorded so actuator publishes
+ * {@code cache.gets} (hit/miss), {@code cache.puts} and {@code cache.evictions}
+ * under {@code /actuator/metrics}.
+ *
+ * <p>The cache advice runs just outside the {@code @Timed} advice, so cache
+ * hits never reach the service timers: {@code tvbingo.shows.service} measures
+ * the calls that did real work, and {@code cache.gets} accounts for the rest.
+ *
+ * <p>Writes only evict this instance's caches. Version lookups answer
+ * conditional GETs with 304, so they get their own short TTL
+ * ({@code tvbingo.cache.version-ttl}): after a write through another instance,
+ * a client is told "not modified" for at most that long.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    /** Single shows keyed by id. */
+    public static final String SHOWS_CACHE = "shows";
+
+    /**
+     * Version lookups for conditional GETs: single shows keyed by id, the
+     * show list under {@code "list"}.
+     */
+    public static final String SHOW_VERSIONS_CACHE = "showVersions";
+
+    /** Whole-table reads (show summaries), keyed by method. */
+    public static final String SHOW_LISTS_CACHE = "showLists";
+
+    @Bean
+    CacheManagerCustomizer<CaffeineCacheManager> versionCacheTtl(
+            @Value("${tvbingo.cache.version-ttl:5s}") Duration versionTtl,
+            @Value("${tvbingo.cache.max-size:1000}") long maxSize) {
+        return cacheManager -> cacheManager.registerCustomCache(SHOW_VERSIONS_CACHE, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(versionTtl)
+                .recordStats()
+                .build());
+    }
+}
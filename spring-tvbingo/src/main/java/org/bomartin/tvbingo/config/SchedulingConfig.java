@@ -0,0 +1,13 @@
+package org.bomartin.tvbingo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background work, such as the periodic write-behind
+ * flush of game marks (see GameStateStore).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
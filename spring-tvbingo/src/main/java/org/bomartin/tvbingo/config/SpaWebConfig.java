@@ -25,24 +25,30 @@ public class SpaWebConfig implements WebMvcConfigurer {
         registry.addResourceHandler("/**")
                 .addResourceLocations("classpath:/static/")
                 .resourceChain(true)
-                .addResolver(new PathResourceResolver() {
-                    @Override
-                    protected Resource getResource(String resourcePath, Resource location) throws IOException {
-                        Resource requestedResource = location.createRelative(resourcePath);
-                        
-                        // If the resource exists and is readable, serve it
-                        if (requestedResource.exists() && requestedResource.isReadable()) {
-                            return requestedResource;
-                        }
-                        
-                        // For non-API routes without a file extension, serve index.html
-                        // This enables Vue Router's history mode
-                        if (!resourcePath.startsWith("api/") && !resourcePath.contains(".")) {
-                            return new ClassPathResource("/static/index.html");
-                        }
-                        
-                        return requestedResource;
-                    }
-                });
+                .addResolver(new SpaResourceResolver());
+    }
+
+    /**
+     * Serves the requested file if it exists, otherwise index.html for
+     * extensionless non-API paths so Vue Router's history mode works.
+     */
+    static class SpaResourceResolver extends PathResourceResolver {
+        @Override
+        protected Resource getResource(String resourcePath, Resource location) throws IOException {
+            Resource requestedResource = location.createRelative(resourcePath);
+
+            // If the resource exists and is readable, serve it
+            if (requestedResource.exists() && requestedResource.isReadable()) {
+                return requestedResource;
+            }
+
+            // For non-API routes without a file extension, serve index.html
+            // This enables Vue Router's history mode
+            if (!resourcePath.startsWith("api/") && !resourcePath.contains(".")) {
+                return new ClassPathResource("/static/index.html");
+            }
+
+            return requestedResource;
+        }
     }
 }
@@ -0,0 +1,32 @@
+package org.bomartin.tvbingo.config;
+
+import org.bomartin.tvbingo.room.RoomWebSocketHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * Registers the room event socket at {@code /ws/rooms/{id}}. Allowed origins
+ * follow the REST API's CORS setting (see WebConfig).
+ */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final RoomWebSocketHandler roomWebSocketHandler;
+
+    @Value("${tvbingo.cors.allowed-origins:http://localhost:*}")
+    private String[] allowedOriginPatterns;
+
+    public WebSocketConfig(RoomWebSocketHandler roomWebSocketHandler) {
+        this.roomWebSocketHandler = roomWebSocketHandler;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(roomWebSocketHandler, "/ws/rooms/*")
+                .setAllowedOriginPatterns(allowedOriginPatterns);
+    }
+}
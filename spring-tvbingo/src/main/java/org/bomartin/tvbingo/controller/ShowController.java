@@ -1,22 +1,44 @@
 package org.bomartin.tvbingo.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.bomartin.tvbingo.dto.ShowBatchRequest;
+import org.bomartin.tvbingo.dto.ShowBatchResult;
 import org.bomartin.tvbingo.dto.ShowRequest;
+import org.bomartin.tvbingo.dto.ShowSearchHit;
+import org.bomartin.tvbingo.dto.ShowSuggestion;
+import org.bomartin.tvbingo.dto.ShowSummary;
+import org.bomartin.tvbingo.dto.ShowVersion;
+import org.bomartin.tvbingo.jdbc.ReplicaReads;
+import org.bomartin.tvbingo.jdbc.ShowWrites;
 import org.bomartin.tvbingo.model.Show;
 import org.bomartin.tvbingo.service.ShowService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -26,17 +48,31 @@ import java.util.List;
  */
 public class ShowController {
     private static final String SHOW_NOT_FOUND_MSG = "Show not found with id: ";
+    static final int MAX_PAGE_SIZE = 500;
+    static final int MAX_SEARCH_LIMIT = 100;
+    static final int MAX_SEARCH_OFFSET = 1000;
+    static final int MAX_SEARCH_QUERY_LENGTH = 100;
+    static final int MAX_SUGGEST_LIMIT = 25;
+
+    // Clients may store show responses but must revalidate them (If-None-Match)
+    // on every use, which costs a version lookup rather than a full read
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
 
     private final ShowService showService;
+    private final ObjectWriter showArrayWriter;
     
     /**
      * Constructs a new ShowController with the specified ShowService.
      *
      * @param showService the service to handle show operations
+     * @param objectMapper the application's JSON mapper, used to stream show lists
      */
     @Autowired
-    public ShowController(ShowService showService) {
+    public ShowController(ShowService showService, ObjectMapper objectMapper) {
         this.showService = showService;
+        // Let the servlet buffer decide when to flush rather than flushing per show
+        this.showArrayWriter = objectMapper.writerFor(Show.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
     
     /**
@@ -45,6 +81,7 @@ public class ShowController {
      * @param request the show details
      * @return the created show
      */
+    @ShowWrites
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public Show createShow(@Valid @RequestBody ShowRequest request) {
@@ -57,65 +94,267 @@ public class ShowController {
         return showService.createShow(show);
     }
     
+    /**
+     * Applies many creates, updates and deletes in one transaction, for bulk
+     * imports and curation. The request is validated as a whole (any invalid
+     * item rejects it with 400), then each item is applied or skipped on its
+     * own and reported in the result.
+     *
+     * @param request the shows to create, update and delete
+     * @return one result per request item, in request order
+     */
+    @ShowWrites
+    @PostMapping("/batch")
+    public ShowBatchResult applyBatch(@Valid @RequestBody ShowBatchRequest request) {
+        List<Show> creates = request.getCreate().stream()
+            .map(item -> toShow(null, item))
+            .toList();
+        List<Show> updates = request.getUpdate().stream()
+            .map(item -> toShow(item.getId(), item.getShow()))
+            .toList();
+        for (Show update : updates) {
+            if (update.getVersion() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Update of show " + update.getId() + " must send the version last read");
+            }
+        }
+        return showService.applyBatch(creates, updates, request.getDelete());
+    }
+
+    private static Show toShow(Long id, ShowRequest request) {
+        return Show.builder()
+            .id(id)
+            .showTitle(request.getShowTitle())
+            .gameTitle(request.getGameTitle())
+            .centerSquare(request.getCenterSquare())
+            .phrases(request.getPhrases())
+            .version(id != null ? request.getVersion() : null)
+            .build();
+    }
+
     /**
      * Retrieves a show by its ID.
      *
+     * <p>The response carries the show's version as a strong ETag. A request whose
+     * {@code If-None-Match} matches the current version gets 304 from a cached
+     * version lookup, without the show being loaded or serialised.
+     *
      * @param id the ID of the show
-     * @return the show with the specified ID
+     * @param request the request, for its conditional headers
+     * @return the show with the specified ID, or null once a 304 has been set up
      * @throws ResponseStatusException if the show is not found
      */
+    @ReplicaReads
     @GetMapping("/{id}")
-    public Show getShow(@PathVariable Long id) {
-        return showService.getShow(id)
+    public ResponseEntity<Show> getShow(@PathVariable Long id, WebRequest request) {
+        ShowVersion current = showService.getShowVersion(id)
                 .orElseThrow(() -> new ResponseStatusException(
                     HttpStatus.NOT_FOUND, SHOW_NOT_FOUND_MSG + id));
+        if (request.checkNotModified(current.getEtag(), current.lastModifiedMillis())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(current.getEtag())
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+
+        Show show = showService.getShow(id)
+                .orElseThrow(() -> new ResponseStatusException(
+                    HttpStatus.NOT_FOUND, SHOW_NOT_FOUND_MSG + id));
+        // Tag the body with its own version: a cached show can trail the lookup
+        // briefly during an update, and must not be stored under the newer tag
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(show.getVersion()))
+                .lastModified(show.getUpdatedAt())
+                .cacheControl(REVALIDATE)
+                .body(show);
     }
     
     /**
-     * Retrieves all shows.
+     * Retrieves shows in ascending id order, optionally one keyset page at a time.
+     *
+     * <p>Shows are written to the response as a JSON array while they are read
+     * from the database, so memory use does not grow with the size of the table.
+     * To page, pass {@code limit} and then the id of the last show received as
+     * {@code after}; a page shorter than {@code limit} is the last one.
+     *
+     * <p>The ETag is a version of the whole show list, so a client revalidating
+     * with {@code If-None-Match} gets 304 until any show is added, changed or
+     * removed, and nothing is read from the shows themselves.
      *
-     * @return a list of all shows
+     * @param after only return shows with an id greater than this cursor
+     * @param limit maximum number of shows to return (1 to {@value #MAX_PAGE_SIZE});
+     *              all remaining shows when omitted
+     * @param request the request, for its conditional headers
+     * @param response the response the JSON array is streamed to
+     * @throws IOException if the response cannot be written
+     * @throws ResponseStatusException if {@code limit} is out of range
      */
+    @ReplicaReads
     @GetMapping
-    public List<Show> getAllShows() {
-        return showService.getAllShows();
+    public void getAllShows(@RequestParam(required = false) Long after,
+                            @RequestParam(required = false) Integer limit,
+                            WebRequest request,
+                            HttpServletResponse response) throws IOException {
+        if (limit != null && (limit < 1 || limit > MAX_PAGE_SIZE)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        // Looked up before the shows are read, so a concurrent write can only make
+        // the body newer than its tag, which the next revalidation then corrects
+        ShowVersion current = showService.getShowListVersion();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE.getHeaderValue());
+        if (request.checkNotModified(current.getEtag(), current.lastModifiedMillis())) {
+            return;
+        }
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (SequenceWriter writer = showArrayWriter.writeValuesAsArray(response.getOutputStream())) {
+            showService.streamShows(after, limit, show -> {
+                try {
+                    writer.write(show);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+    
+    /**
+     * Searches show titles, game titles and phrases, ranked by relevance.
+     *
+     * @param q the search text
+     * @param limit page size
+     * @param offset number of results to skip; bounded because deep offsets
+     *               still rank every skipped match
+     * @return one page of matches, best first
+     * @throws ResponseStatusException if the query is blank or too long, or the
+     *         page is out of range
+     */
+    @ReplicaReads
+    @GetMapping("/search")
+    public List<ShowSearchHit> searchShows(@RequestParam String q,
+                                           @RequestParam(defaultValue = "20") int limit,
+                                           @RequestParam(defaultValue = "0") int offset) {
+        if (q.isBlank() || q.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "q must be between 1 and " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        if (offset < 0 || offset > MAX_SEARCH_OFFSET) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "offset must be between 0 and " + MAX_SEARCH_OFFSET);
+        }
+        return showService.searchShows(q.strip(), limit, offset);
+    }
+
+    /**
+     * Suggests show titles as the user types. Answered from an in-memory index
+     * without a database query, so it is cheap enough to call per keystroke.
+     *
+     * @param prefix the text typed so far
+     * @param limit maximum number of suggestions
+     * @return matching titles, titles that start with the prefix first
+     * @throws ResponseStatusException if the limit is out of range
+     */
+    @GetMapping("/suggest")
+    public List<ShowSuggestion> suggestShows(@RequestParam String prefix,
+                                             @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_SUGGEST_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "limit must be between 1 and " + MAX_SUGGEST_LIMIT);
+        }
+        return showService.suggestTitles(prefix, limit);
+    }
+
+    /**
+     * Retrieves a summary of every show, without phrases.
+     *
+     * @return id, titles and phrase count of each show, in id order
+     */
+    @ReplicaReads
+    @GetMapping("/summaries")
+    public List<ShowSummary> getShowSummaries() {
+        return showService.getShowSummaries();
     }
     
     /**
-     * Updates an existing show.
+     * Updates an existing show in one round trip.
+     *
+     * <p>The request must carry the version the client last read, as the body's
+     * {@code version} or as the ETag from {@code GET /api/shows/{id}} in
+     * {@code If-Match}. The update only succeeds while the show is still at
+     * that version, so two editors cannot silently overwrite each other.
      *
      * @param id the ID of the show to update
+     * @param ifMatch the show's ETag as last read, if the body has no version
      * @param request the updated show details
-     * @return the updated show
-     * @throws ResponseStatusException if the show is not found
+     * @return the updated show, including its new version
+     * @throws ResponseStatusException if no version is given (428), the
+     *         If-Match value is not a show version or disagrees with the body
+     *         (400), or the show is not found (404)
      */
+    @ShowWrites
     @PutMapping("/{id}")
-    public Show updateShow(@PathVariable Long id, @Valid @RequestBody ShowRequest request) {
-        Show show = showService.getShow(id)
+    public Show updateShow(@PathVariable Long id,
+                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                           @Valid @RequestBody ShowRequest request) {
+        Show show = Show.builder()
+            .id(id)
+            .showTitle(request.getShowTitle())
+            .gameTitle(request.getGameTitle())
+            .centerSquare(request.getCenterSquare())
+            .phrases(request.getPhrases())
+            .version(expectedVersion(request.getVersion(), ifMatch))
+            .build();
+
+        return showService.updateShow(show)
                 .orElseThrow(() -> new ResponseStatusException(
                     HttpStatus.NOT_FOUND, SHOW_NOT_FOUND_MSG + id));
-
-        show.setShowTitle(request.getShowTitle());
-        show.setGameTitle(request.getGameTitle());
-        show.setCenterSquare(request.getCenterSquare());
-        show.setPhrases(request.getPhrases());
-        
-        return showService.updateShow(show);
     }
     
+    private static Long expectedVersion(Long bodyVersion, String ifMatch) {
+        if (ifMatch == null) {
+            if (bodyVersion == null) {
+                throw new ResponseStatusException(HttpStatus.PRECONDITION_REQUIRED,
+                        "Updates must send the show's version, in the body or in If-Match");
+            }
+            return bodyVersion;
+        }
+        // Show ETags are strong and quoted, e.g. "3" (see getShow)
+        String tag = ifMatch.strip();
+        Long headerVersion = null;
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                headerVersion = Long.valueOf(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+        }
+        if (headerVersion == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "If-Match must be a single show ETag");
+        }
+        if (bodyVersion != null && !bodyVersion.equals(headerVersion)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "If-Match and version disagree");
+        }
+        return headerVersion;
+    }
+
     /**
      * Deletes a show by its ID.
      *
      * @param id the ID of the show to delete
      * @throws ResponseStatusException if the show is not found
      */
+    @ShowWrites
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteShow(@PathVariable Long id) {
-        // Verify show exists before attempting deletion
-        showService.getShow(id)
-                .orElseThrow(() -> new ResponseStatusException(
-                    HttpStatus.NOT_FOUND, SHOW_NOT_FOUND_MSG + id));
-        showService.deleteShow(id);
+        if (!showService.deleteShow(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, SHOW_NOT_FOUND_MSG + id);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package org.bomartin.tvbingo.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A set of show writes applied together in one transaction. Deletes run
+ * first, then updates, then creates, so a title freed by a delete can be
+ * reused in the same batch.
+ */
+@Data
+public class ShowBatchRequest {
+    // Bounds the statement batches and the response size per request
+    public static final int MAX_ITEMS = 500;
+
+    @NotNull
+    @Size(max = MAX_ITEMS, message = "A batch cannot create more than {max} shows")
+    private List<@NotNull @Valid ShowRequest> create = new ArrayList<>();
+
+    @NotNull
+    @Size(max = MAX_ITEMS, message = "A batch cannot update more than {max} shows")
+    private List<@NotNull @Valid Update> update = new ArrayList<>();
+
+    @NotNull
+    @Size(max = MAX_ITEMS, message = "A batch cannot delete more than {max} shows")
+    private List<@NotNull Long> delete = new ArrayList<>();
+
+    /**
+     * An update of one show: its id plus the same fields as a single PUT,
+     * including the version last read, which is required.
+     */
+    @Data
+    public static class Update {
+        @NotNull(message = "Show ID is required")
+        private Long id;
+
+        @Valid
+        @NotNull(message = "Show details are required")
+        private ShowRequest show;
+    }
+}
@@ -0,0 +1,51 @@
+package org.bomartin.tvbingo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a {@link ShowBatchRequest}. Each list has one entry per item of
+ * the matching request list, in the same order.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ShowBatchResult {
+    private List<Item> created = new ArrayList<>();
+
+    private List<Item> updated = new ArrayList<>();
+
+    private List<Item> deleted = new ArrayList<>();
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        DELETED,
+        DUPLICATE_TITLE,
+        NOT_FOUND,
+        STALE_VERSION
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Item {
+        private Status status;
+
+        // Null for a create that was not applied
+        private Long id;
+
+        // The show's new version; only set for CREATED and UPDATED
+        private Long version;
+
+        public static Item of(Status status, Long id) {
+            return new Item(status, id, null);
+        }
+    }
+}
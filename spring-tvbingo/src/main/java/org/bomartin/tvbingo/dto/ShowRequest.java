@@ -28,4 +28,9 @@ public class ShowRequest {
     @Size(max = 150, message = "A show cannot have more than 150 phrases")
     @ValidPhrases(maxLength = 50)
     private List<String> phrases = new ArrayList<>();
+
+    // Required on update unless sent as If-Match: the version the client last
+    // read. The update is rejected with 409 if the show has changed since.
+    // Ignored on create.
+    private Long version;
 }
\ No newline at end of file
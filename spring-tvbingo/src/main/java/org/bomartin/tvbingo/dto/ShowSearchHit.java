@@ -0,0 +1,23 @@
+package org.bomartin.tvbingo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A show matched by a search, in the same shape as {@link ShowSummary} plus
+ * its relevance. Higher ranks are better matches; the scale has no fixed upper
+ * bound and is only meaningful within one result list.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ShowSearchHit {
+    private Long id;
+    private String showTitle;
+    private String gameTitle;
+    private int phraseCount;
+    private double rank;
+}
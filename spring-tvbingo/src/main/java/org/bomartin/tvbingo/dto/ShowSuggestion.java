@@ -0,0 +1,16 @@
+package org.bomartin.tvbingo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A show title offered as an as-you-type suggestion.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ShowSuggestion {
+    private Long id;
+    private String showTitle;
+}
@@ -0,0 +1,21 @@
+package org.bomartin.tvbingo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lightweight view of a show for list pages. Carries the phrase count rather
+ * than the phrases themselves, so the phrases array never leaves Postgres.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ShowSummary {
+    private Long id;
+    private String showTitle;
+    private String gameTitle;
+    private int phraseCount;
+}
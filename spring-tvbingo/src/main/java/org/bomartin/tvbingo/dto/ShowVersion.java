@@ -0,0 +1,31 @@
+package org.bomartin.tvbingo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Validators for a show or for the show list, used to answer conditional GETs
+ * without loading the shows themselves.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ShowVersion {
+    // Entity tag value, unquoted
+    private String etag;
+
+    // Null for an empty show list
+    private Instant lastModified;
+
+    /**
+     * @return the last-modified time in epoch milliseconds, or -1 if unknown
+     */
+    public long lastModifiedMillis() {
+        return lastModified != null ? lastModified.toEpochMilli() : -1;
+    }
+}
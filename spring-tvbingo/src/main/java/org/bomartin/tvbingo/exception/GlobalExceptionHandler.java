@@ -6,9 +6,13 @@
  */
 package org.bomartin.tvbingo.exception;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.relational.core.conversion.DbActionExecutionException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +24,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestControllerAdvice
@@ -27,6 +32,46 @@ public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    static final String STALE_UPDATE_MSG = "The show was changed by someone else. Reload it and try again.";
+
+    static final String TITLE_CONFLICTS_METRIC = "tvbingo.shows.title.conflicts";
+
+    static final List<String> OPERATIONS = List.of("create", "update", "batch", "import", "other");
+
+    // Duplicate-title rejections by the write that hit them. They arrive as an
+    // IllegalArgumentException or from the unique constraint depending on the
+    // path, so the operation comes from the request rather than the exception
+    private final Map<String, Counter> titleConflicts = new HashMap<>();
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        OPERATIONS.forEach(operation -> titleConflicts.put(operation, titleConflicts(meterRegistry, operation)));
+    }
+
+    private static Counter titleConflicts(MeterRegistry meterRegistry, String operation) {
+        return Counter.builder(TITLE_CONFLICTS_METRIC)
+                .description("Show writes rejected because the title is already taken")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the show write the request made, as tagged on the conflicts metric
+     */
+    static String operation(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.endsWith("/shows/batch")) {
+            return "batch";
+        }
+        if (path.endsWith("/shows/import")) {
+            return "import";
+        }
+        return switch (request.getMethod()) {
+            case "POST" -> "create";
+            case "PUT", "PATCH" -> "update";
+            default -> "other";
+        };
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(
             MethodArgumentNotValidException ex) {
@@ -41,10 +86,11 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, String>> handleIllegalArgumentException(
-            IllegalArgumentException ex) {
+            IllegalArgumentException ex, HttpServletRequest request) {
         Map<String, String> errors = new HashMap<>();
         
         if (ex.getMessage().contains("Show title must be unique")) {
+            titleConflicts.get(operation(request)).increment();
             errors.put("showTitle", ex.getMessage());
             // Return 409 Conflict for uniqueness violations
             return ResponseEntity.status(HttpStatus.CONFLICT).body(errors);
@@ -75,16 +121,14 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(DbActionExecutionException.class)
     public ResponseEntity<Map<String, String>> handleDbActionExecutionException(
-            DbActionExecutionException ex) {
+            DbActionExecutionException ex, HttpServletRequest request) {
         Map<String, String> errors = new HashMap<>();
 
+        if (ex.getCause() instanceof OptimisticLockingFailureException olfe) {
+            return handleOptimisticLockingFailure(olfe);
+        }
         if (ex.getCause() instanceof DataIntegrityViolationException dive) {
-            if (dive.getMessage() != null && dive.getMessage().contains("uk_shows_show_title")) {
-                errors.put("showTitle", "Show title must be unique");
-            } else {
-                errors.put("error", "Database constraint violation");
-            }
-            return ResponseEntity.status(HttpStatus.CONFLICT).body(errors);
+            return handleDataIntegrityViolation(dive, request);
         }
 
         errors.put("error", "An unexpected error occurred. Please try again.");
@@ -93,10 +137,13 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<Map<String, String>> handleDataIntegrityViolation(
-            DataIntegrityViolationException ex) {
+            DataIntegrityViolationException ex, HttpServletRequest request) {
+        // Updates (and writes racing a batch's title check) let the unique
+        // constraint reject duplicate titles; report it the same way as on create
         Map<String, String> errors = new HashMap<>();
 
-        if (ex.getMessage().contains("uk_shows_show_title")) {
+        if (ex.getMessage() != null && ex.getMessage().contains("uk_shows_show_title")) {
+            titleConflicts.get(operation(request)).increment();
             errors.put("showTitle", "Show title must be unique");
         } else {
             errors.put("error", "Database constraint violation");
@@ -105,6 +152,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errors);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex) {
+        // Another edit was saved after the client read its copy; it should reload
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", STALE_UPDATE_MSG);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errors);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleGenericException(Exception ex) {
         log.error("Unhandled exception", ex);
@@ -0,0 +1,61 @@
+package org.bomartin.tvbingo.export;
+
+import org.bomartin.tvbingo.importer.CsvShowReader;
+import org.bomartin.tvbingo.model.Show;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes shows in the CSV layout read by {@link CsvShowReader}: the show
+ * fields, then one column per phrase. An export can be imported unchanged,
+ * unless a value contains a line break, which the importer does not accept.
+ */
+public class CsvShowWriter {
+    private final Writer writer;
+
+    public CsvShowWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void writeHeader() throws IOException {
+        writer.write(String.join(",", CsvShowReader.HEADER));
+        writer.write('\n');
+    }
+
+    public void write(Show show) throws IOException {
+        writeField(show.getShowTitle());
+        writer.write(',');
+        writeField(show.getGameTitle());
+        writer.write(',');
+        writeField(show.getCenterSquare());
+        for (String phrase : show.getPhrases()) {
+            writer.write(',');
+            writeField(phrase);
+        }
+        writer.write('\n');
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (!needsQuotes(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,113 @@
+package org.bomartin.tvbingo.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import org.bomartin.tvbingo.model.Show;
+import org.bomartin.tvbingo.service.ShowService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exports the whole show catalogue for backups and migrations. Shows are read
+ * through a JDBC cursor (see {@code ShowStreamRepository}) and written to the
+ * response as they arrive, so heap use does not grow with the table.
+ *
+ * <p>The export holds one pooled connection and a read-only snapshot for its
+ * duration, which takes no locks and does not block writers.
+ */
+@RestController
+@RequestMapping("/api/shows/export")
+public class ShowExportController {
+    static final String FORMAT_NDJSON = "ndjson";
+    static final String FORMAT_CSV = "csv";
+    static final String APPLICATION_GZIP = "application/gzip";
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ShowService showService;
+    private final ObjectWriter showLineWriter;
+
+    @Autowired
+    public ShowExportController(ShowService showService, ObjectMapper objectMapper) {
+        this.showService = showService;
+        // One show per line; flushing is left to the servlet buffer
+        this.showLineWriter = objectMapper.writerFor(Show.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+    }
+
+    /**
+     * Streams every show in id order.
+     *
+     * @param format {@code ndjson} for one JSON show per line (the default), or
+     *               {@code csv} for gzip-compressed CSV in the import layout
+     */
+    @GetMapping
+    public void exportShows(@RequestParam(defaultValue = FORMAT_NDJSON) String format,
+                            HttpServletResponse response) throws IOException {
+        switch (format) {
+            case FORMAT_NDJSON -> exportNdjson(response);
+            case FORMAT_CSV -> exportCsv(response);
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "format must be " + FORMAT_NDJSON + " or " + FORMAT_CSV);
+        }
+    }
+
+    private void exportNdjson(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        setAttachment(response, "shows.ndjson");
+        try (SequenceWriter writer = showLineWriter.writeValues(response.getOutputStream())) {
+            showService.streamShows(null, null, unchecked(writer::write));
+        }
+    }
+
+    private void exportCsv(HttpServletResponse response) throws IOException {
+        response.setContentType(APPLICATION_GZIP);
+        setAttachment(response, "shows.csv.gz");
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER_SIZE), StandardCharsets.UTF_8))) {
+            CsvShowWriter csv = new CsvShowWriter(out);
+            csv.writeHeader();
+            showService.streamShows(null, null, unchecked(csv::write));
+        }
+    }
+
+    private static void setAttachment(HttpServletResponse response, String filename) {
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+    }
+
+    private interface ShowSink {
+        void accept(Show show) throws IOException;
+    }
+
+    private static Consumer<Show> unchecked(ShowSink sink) {
+        return show -> {
+            try {
+                sink.accept(show);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
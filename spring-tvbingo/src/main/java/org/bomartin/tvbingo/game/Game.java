@@ -0,0 +1,52 @@
+package org.bomartin.tvbingo.game;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One player's game: the card they were dealt and the cells they have marked.
+ *
+ * <p>The card's phrases are copied from the show when the game starts, so later
+ * edits to the show do not change a card in play. {@code marked} is the bitmask
+ * described in {@link WinDetector}; the value stored here can lag behind recent
+ * marks, which {@link GameStateStore} buffers and writes in batches.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table("games")
+public class Game {
+    @Id
+    private Long id;
+
+    @Column("show_id")
+    private Long showId;
+
+    private long seed;
+
+    private WinPattern pattern;
+
+    @Column("center_square")
+    private String centerSquare;
+
+    @Builder.Default
+    private List<String> phrases = new ArrayList<>();
+
+    private int marked;
+
+    @Column("created_at")
+    private Instant createdAt;
+
+    @Column("updated_at")
+    private Instant updatedAt;
+}
@@ -0,0 +1,91 @@
+package org.bomartin.tvbingo.game;
+
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * REST controller for persistent game sessions: a dealt card plus the cells the
+ * player has marked, so a refresh does not lose progress.
+ */
+@RestController
+@RequestMapping("/api/games")
+public class GameController {
+    private static final String GAME_NOT_FOUND_MSG = "Game not found with id: ";
+
+    private final GameService gameService;
+
+    @Autowired
+    public GameController(GameService gameService) {
+        this.gameService = gameService;
+    }
+
+    /**
+     * Starts a game by dealing a card from a show.
+     *
+     * @param request the show, and optionally the card seed and winning pattern
+     * @return the new game
+     * @throws ResponseStatusException if the show is not found
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Game createGame(@Valid @RequestBody GameRequest request) {
+        return gameService.createGame(request.getShowId(), request.getSeed(), request.getPattern())
+                .orElseThrow(() -> new ResponseStatusException(
+                    HttpStatus.NOT_FOUND, "Show not found with id: " + request.getShowId()));
+    }
+
+    /**
+     * Retrieves a game with its card and current marks.
+     *
+     * @param id the ID of the game
+     * @return the game
+     * @throws ResponseStatusException if the game is not found
+     */
+    @GetMapping("/{id}")
+    public Game getGame(@PathVariable Long id) {
+        return gameService.getGame(id)
+                .orElseThrow(() -> new ResponseStatusException(
+                    HttpStatus.NOT_FOUND, GAME_NOT_FOUND_MSG + id));
+    }
+
+    /**
+     * Marks a cell.
+     *
+     * @param id the ID of the game
+     * @param cell the cell index, {@code row * 5 + column}
+     * @return the game's marks and win status
+     * @throws ResponseStatusException if the game is not found
+     */
+    @PutMapping("/{id}/cells/{cell}")
+    public GameState markCell(@PathVariable Long id, @PathVariable int cell) {
+        return gameService.markCell(id, cell, true)
+                .orElseThrow(() -> new ResponseStatusException(
+                    HttpStatus.NOT_FOUND, GAME_NOT_FOUND_MSG + id));
+    }
+
+    /**
+     * Clears a cell. The center square cannot be cleared.
+     *
+     * @param id the ID of the game
+     * @param cell the cell index, {@code row * 5 + column}
+     * @return the game's marks and win status
+     * @throws ResponseStatusException if the game is not found
+     */
+    @DeleteMapping("/{id}/cells/{cell}")
+    public GameState unmarkCell(@PathVariable Long id, @PathVariable int cell) {
+        return gameService.markCell(id, cell, false)
+                .orElseThrow(() -> new ResponseStatusException(
+                    HttpStatus.NOT_FOUND, GAME_NOT_FOUND_MSG + id));
+    }
+}
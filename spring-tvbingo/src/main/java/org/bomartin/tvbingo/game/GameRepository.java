@@ -0,0 +1,8 @@
+package org.bomartin.tvbingo.game;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GameRepository extends CrudRepository<Game, Long> {
+}
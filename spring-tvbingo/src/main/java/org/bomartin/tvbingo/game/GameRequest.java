@@ -0,0 +1,21 @@
+package org.bomartin.tvbingo.game;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.bomartin.tvbingo.card.CardService;
+
+@Data
+public class GameRequest {
+    @NotNull(message = "Show ID is required")
+    private Long showId;
+
+    // Optional: reproduces a specific card (see POST /api/shows/{id}/cards)
+    @Min(value = -CardService.MAX_SEED, message = CardService.SEED_RANGE_MSG)
+    @Max(value = CardService.MAX_SEED, message = CardService.SEED_RANGE_MSG)
+    private Long seed;
+
+    // Optional: defaults to any row, column or diagonal
+    private WinPattern pattern;
+}
@@ -0,0 +1,86 @@
+package org.bomartin.tvbingo.game;
+
+import org.bomartin.tvbingo.card.BingoCard;
+import org.bomartin.tvbingo.card.CardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Service
+public class GameService {
+    static final int CENTER_BIT = 1 << WinDetector.CENTER;
+
+    private final GameRepository gameRepository;
+    private final GameStateStore gameStateStore;
+    private final CardService cardService;
+
+    @Autowired
+    public GameService(GameRepository gameRepository, GameStateStore gameStateStore, CardService cardService) {
+        this.gameRepository = gameRepository;
+        this.gameStateStore = gameStateStore;
+        this.cardService = cardService;
+    }
+
+    /**
+     * Deals a card from a show and starts a game with only the free center marked.
+     *
+     * @param showId the show to deal from
+     * @param seed the card seed, or null for a random card
+     * @param pattern the winning pattern, or null for {@link WinPattern#LINE}
+     * @return the new game, or empty if the show does not exist
+     * @throws IllegalArgumentException if the show has fewer than 24 phrases
+     */
+    public Optional<Game> createGame(Long showId, Long seed, WinPattern pattern) {
+        return cardService.generateCard(showId, seed).map(card -> gameRepository.save(newGame(card, pattern)));
+    }
+
+    /**
+     * Retrieves a game, including marks that have not been flushed yet.
+     *
+     * @param id the ID of the game
+     * @return the game, or empty if it does not exist
+     */
+    public Optional<Game> getGame(Long id) {
+        return gameRepository.findById(id).map(game -> {
+            gameStateStore.bufferedMarks(id).ifPresent(game::setMarked);
+            return game;
+        });
+    }
+
+    /**
+     * Marks or unmarks a cell. The change is buffered and written to the database
+     * in the next batch; the center square always stays marked.
+     *
+     * @param id the ID of the game
+     * @param cell the cell index, {@code row * 5 + column}
+     * @param marked true to mark the cell, false to clear it
+     * @return the game's marks after the change, or empty if the game does not exist
+     * @throws IllegalArgumentException if the cell is outside the card
+     */
+    public Optional<GameState> markCell(Long id, int cell, boolean marked) {
+        if (cell < 0 || cell >= WinDetector.CELLS) {
+            throw new IllegalArgumentException("Cell must be between 0 and " + (WinDetector.CELLS - 1));
+        }
+        int bit = 1 << cell;
+        return gameStateStore
+                .update(id, () -> gameRepository.findById(id),
+                        current -> (marked ? current | bit : current & ~bit) | CENTER_BIT)
+                .map(marks -> GameState.of(id, marks.pattern(), marks.marked()));
+    }
+
+    private static Game newGame(BingoCard card, WinPattern pattern) {
+        Instant now = Instant.now();
+        return Game.builder()
+                .showId(card.getShowId())
+                .seed(card.getSeed())
+                .pattern(pattern != null ? pattern : WinPattern.LINE)
+                .centerSquare(card.getCenterSquare())
+                .phrases(card.getPhrases())
+                .marked(CENTER_BIT)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
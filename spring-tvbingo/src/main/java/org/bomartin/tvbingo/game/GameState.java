@@ -0,0 +1,32 @@
+package org.bomartin.tvbingo.game;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Marked cells of a game and whether they win. {@code marked} and
+ * {@code completedLines} are bitmasks as described in {@link WinDetector}.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GameState {
+    private Long gameId;
+    private WinPattern pattern;
+    private int marked;
+    private int completedLines;
+    private boolean won;
+
+    static GameState of(Long gameId, WinPattern pattern, int marked) {
+        return GameState.builder()
+                .gameId(gameId)
+                .pattern(pattern)
+                .marked(marked)
+                .completedLines(WinDetector.completedLines(marked))
+                .won(WinDetector.hasWon(marked, pattern))
+                .build();
+    }
+}
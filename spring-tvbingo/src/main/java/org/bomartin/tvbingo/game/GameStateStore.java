@@ -0,0 +1,187 @@
+package org.bomartin.tvbingo.game;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Write-behind store for the marked cells of games in play.
+ *
+ * <p>Marks are applied to an in-memory copy of each active game and only the
+ * latest bitmask per game is written, in one JDBC batch per flush interval, so
+ * a burst of taps costs one UPDATE per game rather than one per tap. A game is
+ * loaded from the database on its first mark and dropped from memory once it
+ * has been flushed and left idle.
+ *
+ * <p>Marks made since the last flush are lost if the process dies abruptly; a
+ * graceful shutdown flushes them. The store assumes a single application
+ * instance serves a given game.
+ */
+@Component
+public class GameStateStore {
+    private static final Logger log = LoggerFactory.getLogger(GameStateStore.class);
+
+    private static final String UPDATE_MARKED =
+            "UPDATE tvbingo_schema.games SET marked = ?, updated_at = now() WHERE id = ?";
+
+    private final ConcurrentHashMap<Long, LiveGame> live = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    private final JdbcTemplate jdbcTemplate;
+    private final long idleTimeoutMillis;
+
+    public GameStateStore(JdbcTemplate jdbcTemplate,
+                          @Value("${tvbingo.games.idle-timeout-ms:600000}") long idleTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    /**
+     * Applies a change to a game's marked cells. The write reaches the database
+     * on the next flush.
+     *
+     * @param gameId the game to update
+     * @param loader loads the game from the database if it is not in memory yet
+     * @param update computes the new bitmask from the current one
+     * @return the game's pattern and new bitmask, or empty if the game does not exist
+     */
+    public Optional<Marks> update(Long gameId, Supplier<Optional<Game>> loader, IntUnaryOperator update) {
+        while (true) {
+            LiveGame game = live.get(gameId);
+            if (game == null) {
+                Optional<Game> stored = loader.get();
+                if (stored.isEmpty()) {
+                    return Optional.empty();
+                }
+                LiveGame loaded = new LiveGame(gameId, stored.get().getPattern(), stored.get().getMarked());
+                LiveGame existing = live.putIfAbsent(gameId, loaded);
+                game = existing != null ? existing : loaded;
+            }
+            synchronized (game) {
+                // Evicted between lookup and lock: retry against a fresh copy
+                if (!game.evicted) {
+                    game.marked = update.applyAsInt(game.marked);
+                    game.dirty = true;
+                    game.lastTouched = System.currentTimeMillis();
+                    return Optional.of(new Marks(game.pattern, game.marked));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the in-memory bitmask for a game, which is newer than the stored
+     * one until the next flush.
+     *
+     * @param gameId the game
+     * @return the buffered bitmask, or empty if the game is not in memory
+     */
+    public Optional<Integer> bufferedMarks(Long gameId) {
+        LiveGame game = live.get(gameId);
+        if (game == null) {
+            return Optional.empty();
+        }
+        synchronized (game) {
+            return game.evicted ? Optional.empty() : Optional.of(game.marked);
+        }
+    }
+
+    /**
+     * Writes every changed game's latest bitmask in a single batch and evicts
+     * games that are clean and idle. Failed writes are retried on the next flush.
+     */
+    @Scheduled(fixedDelayString = "${tvbingo.games.flush-interval-ms:2000}")
+    public void flush() {
+        synchronized (flushLock) {
+            long now = System.currentTimeMillis();
+            List<Object[]> batch = new ArrayList<>();
+            List<LiveGame> flushed = new ArrayList<>();
+            for (LiveGame game : live.values()) {
+                synchronized (game) {
+                    if (game.dirty) {
+                        batch.add(new Object[] {game.marked, game.id});
+                        game.dirty = false;
+                        flushed.add(game);
+                    } else if (now - game.lastTouched > idleTimeoutMillis) {
+                        game.evicted = true;
+                        live.remove(game.id, game);
+                    }
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_MARKED, batch);
+            } catch (DataAccessException e) {
+                log.warn("Failed to flush marks for {} games; retrying on next flush", batch.size(), e);
+                for (LiveGame game : flushed) {
+                    synchronized (game) {
+                        game.dirty = true;
+                    }
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Drops every game from memory without writing its marks. For tests that
+     * reset the games table, which restarts ids that buffered games still hold.
+     */
+    void clear() {
+        synchronized (flushLock) {
+            for (LiveGame game : live.values()) {
+                synchronized (game) {
+                    game.evicted = true;
+                    live.remove(game.id, game);
+                }
+            }
+        }
+    }
+
+    /** Number of games currently held in memory. */
+    int size() {
+        return live.size();
+    }
+
+    /**
+     * A game's pattern and marked cells at a point in time.
+     *
+     * @param pattern the winning pattern in play
+     * @param marked the marked-cell bitmask
+     */
+    public record Marks(WinPattern pattern, int marked) {
+    }
+
+    // Mutable state is guarded by the instance's monitor
+    private static final class LiveGame {
+        private final Long id;
+        private final WinPattern pattern;
+        private int marked;
+        private boolean dirty;
+        private boolean evicted;
+        private long lastTouched = System.currentTimeMillis();
+
+        private LiveGame(Long id, WinPattern pattern, int marked) {
+            this.id = id;
+            this.pattern = pattern;
+            this.marked = marked;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.bomartin.tvbingo.game;
+
+/**
+ * Bitboard win detection for a 5x5 bingo card.
+ *
+ * <p>A card's marked cells are an {@code int} with bit {@code row * 5 + col}
+ * set for each marked cell, so the center square is bit 12. Checking a pattern
+ * is an AND and a compare per mask against constants computed once, with no
+ * allocation, which keeps evaluation cheap enough to run on every mark.
+ */
+public final class WinDetector {
+
+    public static final int SIZE = 5;
+    public static final int CELLS = SIZE * SIZE;
+    public static final int CENTER = CELLS / 2;
+    public static final int ALL_CELLS = (1 << CELLS) - 1;
+
+    /** Number of straight lines: five rows, five columns and two diagonals. */
+    public static final int LINE_COUNT = 2 * SIZE + 2;
+
+    static final int MAIN_DIAGONAL = 2 * SIZE;
+    static final int ANTI_DIAGONAL = 2 * SIZE + 1;
+
+    /** Rows 0-4, then columns 0-4, then the main and anti diagonal. */
+    static final int[] LINE_MASKS = new int[LINE_COUNT];
+
+    static {
+        int mainDiagonal = 0;
+        int antiDiagonal = 0;
+        for (int i = 0; i < SIZE; i++) {
+            int row = 0;
+            int column = 0;
+            for (int j = 0; j < SIZE; j++) {
+                row |= cell(i, j);
+                column |= cell(j, i);
+            }
+            LINE_MASKS[i] = row;
+            LINE_MASKS[SIZE + i] = column;
+            mainDiagonal |= cell(i, i);
+            antiDiagonal |= cell(i, SIZE - 1 - i);
+        }
+        LINE_MASKS[MAIN_DIAGONAL] = mainDiagonal;
+        LINE_MASKS[ANTI_DIAGONAL] = antiDiagonal;
+    }
+
+    private WinDetector() {
+    }
+
+    /**
+     * Returns the bit for a cell.
+     *
+     * @param row row index, 0-4
+     * @param column column index, 0-4
+     * @return a mask with only that cell set
+     */
+    public static int cell(int row, int column) {
+        return 1 << (row * SIZE + column);
+    }
+
+    /**
+     * Returns which straight lines are complete, as a 12-bit mask in the order of
+     * {@link #LINE_MASKS}: bit 0-4 rows, 5-9 columns, 10 main and 11 anti diagonal.
+     *
+     * @param marked the marked cells
+     * @return a bit per completed line
+     */
+    public static int completedLines(int marked) {
+        int completed = 0;
+        for (int i = 0; i < LINE_COUNT; i++) {
+            int mask = LINE_MASKS[i];
+            if ((marked & mask) == mask) {
+                completed |= 1 << i;
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * Checks whether the marked cells complete a pattern.
+     *
+     * @param marked the marked cells
+     * @param pattern the winning pattern in play
+     * @return true if the pattern is complete
+     */
+    public static boolean hasWon(int marked, WinPattern pattern) {
+        return pattern.isCompletedBy(marked);
+    }
+}
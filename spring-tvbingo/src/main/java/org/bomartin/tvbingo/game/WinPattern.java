@@ -0,0 +1,42 @@
+package org.bomartin.tvbingo.game;
+
+import static org.bomartin.tvbingo.game.WinDetector.ANTI_DIAGONAL;
+import static org.bomartin.tvbingo.game.WinDetector.LINE_MASKS;
+import static org.bomartin.tvbingo.game.WinDetector.MAIN_DIAGONAL;
+import static org.bomartin.tvbingo.game.WinDetector.SIZE;
+import static org.bomartin.tvbingo.game.WinDetector.cell;
+
+/**
+ * Winning patterns a game can be played with. Each pattern is one or more cell
+ * masks; the pattern is complete when every cell of any one mask is marked.
+ */
+public enum WinPattern {
+    /** Any full row, column or diagonal. */
+    LINE(LINE_MASKS),
+
+    FOUR_CORNERS(cell(0, 0) | cell(0, 4) | cell(4, 0) | cell(4, 4)),
+
+    /** Every cell on the card. */
+    BLACKOUT(WinDetector.ALL_CELLS),
+
+    /** Both diagonals. */
+    X(LINE_MASKS[MAIN_DIAGONAL] | LINE_MASKS[ANTI_DIAGONAL]),
+
+    /** Left column and bottom row. */
+    L(LINE_MASKS[SIZE] | LINE_MASKS[SIZE - 1]);
+
+    private final int[] masks;
+
+    WinPattern(int... masks) {
+        this.masks = masks;
+    }
+
+    boolean isCompletedBy(int marked) {
+        for (int mask : masks) {
+            if ((marked & mask) == mask) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
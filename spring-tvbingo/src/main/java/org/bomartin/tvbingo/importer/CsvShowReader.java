@@ -0,0 +1,105 @@
+package org.bomartin.tvbingo.importer;
+
+import org.bomartin.tvbingo.dto.ShowRequest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads shows from CSV, one show per line:
+ *
+ * <pre>
+ * showTitle,gameTitle,centerSquare,phrase,phrase,...
+ * The Office,Office Bingo,Free Space,"That's what she said",Dwight eats a beet
+ * </pre>
+ *
+ * <p>The header is required; its first three columns name the show fields and
+ * every later column holds one phrase, so rows may differ in length. Fields
+ * follow RFC 4180 quoting, except that a quoted field cannot span lines.
+ */
+public class CsvShowReader extends ShowRecordReader {
+    public static final List<String> HEADER = List.of("showTitle", "gameTitle", "centerSquare");
+
+    private CsvShowReader(Reader reader) {
+        super(reader);
+    }
+
+    /**
+     * Opens a CSV import and checks its header.
+     *
+     * @param reader the CSV text
+     * @return a reader positioned at the first show
+     * @throws IllegalArgumentException if the header is missing or wrong
+     */
+    public static CsvShowReader open(Reader reader) throws IOException {
+        CsvShowReader csv = new CsvShowReader(reader);
+        String header = csv.readLine();
+        List<String> columns = header != null ? splitLine(header) : List.of();
+        if (columns.size() < HEADER.size()
+                || !HEADER.equals(columns.subList(0, HEADER.size()).stream().map(String::trim).toList())) {
+            throw new IllegalArgumentException("CSV header must start with " + String.join(",", HEADER));
+        }
+        return csv;
+    }
+
+    @Override
+    protected ShowRequest parse(String line) {
+        List<String> fields = splitLine(line);
+        ShowRequest show = new ShowRequest();
+        show.setShowTitle(field(fields, 0));
+        show.setGameTitle(field(fields, 1));
+        show.setCenterSquare(field(fields, 2));
+        List<String> phrases = new ArrayList<>(Math.max(0, fields.size() - HEADER.size()));
+        for (int i = HEADER.size(); i < fields.size(); i++) {
+            // Trailing empty cells are common in spreadsheet exports
+            if (!fields.get(i).isEmpty()) {
+                phrases.add(fields.get(i));
+            }
+        }
+        show.setPhrases(phrases);
+        return show;
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index < fields.size() && !fields.get(index).isEmpty() ? fields.get(index) : null;
+    }
+
+    /**
+     * Splits one CSV line into fields, unquoting quoted ones.
+     *
+     * @throws IllegalArgumentException if a quoted field is not closed
+     */
+    static List<String> splitLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (i < line.length()) {
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,60 @@
+package org.bomartin.tvbingo.importer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Running totals of an import, reported after every committed chunk and once
+ * more, with the row errors, when the import finishes. If the import stops
+ * early, the last line has {@code done} false and {@code error} set.
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class ImportProgress {
+    // Only the first errors are kept, so a file of bad rows cannot exhaust the heap
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private long rows;
+    private long created;
+    private long duplicates;
+    private long invalid;
+    // Rows in chunks the database rejected as a whole
+    private long failed;
+    private boolean done;
+    private String error;
+    private List<RowError> errors = new ArrayList<>();
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RowError {
+        private long line;
+        private String message;
+    }
+
+    /**
+     * @return a copy of the counts without the row errors, for progress updates
+     */
+    ImportProgress totals() {
+        ImportProgress totals = new ImportProgress();
+        totals.setRows(rows);
+        totals.setCreated(created);
+        totals.setDuplicates(duplicates);
+        totals.setInvalid(invalid);
+        totals.setFailed(failed);
+        totals.setDone(done);
+        return totals;
+    }
+
+    void addError(long line, String message) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(line, message));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.bomartin.tvbingo.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.bomartin.tvbingo.dto.ShowRequest;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads shows from newline-delimited JSON: one {@link ShowRequest} object per
+ * line, in the same shape as the body of {@code POST /api/shows}.
+ */
+public class NdjsonShowReader extends ShowRecordReader {
+    private final ObjectReader showReader;
+
+    public NdjsonShowReader(Reader reader, ObjectMapper objectMapper) {
+        super(reader);
+        this.showReader = objectMapper.readerFor(ShowRequest.class);
+    }
+
+    @Override
+    protected ShowRequest parse(String line) throws IOException {
+        ShowRequest show = showReader.readValue(line);
+        if (show == null) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        return show;
+    }
+
+    @Override
+    protected String describe(Exception e) {
+        // Jackson's message names types and offsets; keep it out of the report
+        return "Malformed JSON";
+    }
+}
@@ -0,0 +1,109 @@
+package org.bomartin.tvbingo.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.bomartin.tvbingo.jdbc.ShowWrites;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bulk import of shows from a CSV or NDJSON request body. The body is read as
+ * it arrives and never buffered as a whole, so the file size is bounded only
+ * by the client. Progress is streamed back as NDJSON, one line per committed
+ * chunk, ending with the final totals and row errors. The status is sent with
+ * the first line, so a failure after that ends the stream with a line that has
+ * {@code done} false and an {@code error}, rather than cutting it short.
+ */
+@RestController
+@ShowWrites
+@RequestMapping("/api/shows/import")
+public class ShowImportController {
+    private static final Logger log = LoggerFactory.getLogger(ShowImportController.class);
+
+    static final String TEXT_CSV = "text/csv";
+    static final String IMPORT_FAILED_MSG = "The import stopped unexpectedly. Rows after the last progress line were not imported.";
+
+    private final ShowImporter showImporter;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter progressWriter;
+
+    @Autowired
+    public ShowImportController(ShowImporter showImporter, ObjectMapper objectMapper) {
+        this.showImporter = showImporter;
+        this.objectMapper = objectMapper;
+        this.progressWriter = objectMapper.writerFor(ImportProgress.class);
+    }
+
+    /**
+     * Imports shows from CSV; see {@link CsvShowReader} for the layout.
+     */
+    @PostMapping(consumes = TEXT_CSV, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importCsv(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // Opened before the response starts, so a bad header is still a plain 400
+        CsvShowReader reader = CsvShowReader.open(bodyReader(request));
+        run(reader, response);
+    }
+
+    /**
+     * Imports shows from NDJSON, one show object per line.
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importNdjson(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        run(new NdjsonShowReader(bodyReader(request), objectMapper), response);
+    }
+
+    private void run(ShowRecordReader reader, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = response.getOutputStream();
+        AtomicReference<ImportProgress> last = new AtomicReference<>(new ImportProgress());
+        ImportProgress result;
+        try {
+            result = showImporter.importShows(reader, progress -> {
+                last.set(progress);
+                try {
+                    writeLine(out, progress);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // The client is gone; there is no one left to report to
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            log.error("Import failed", e);
+            result = last.get();
+            result.setError(IMPORT_FAILED_MSG);
+        }
+        writeLine(out, result);
+    }
+
+    private void writeLine(OutputStream out, ImportProgress progress) throws IOException {
+        out.write(progressWriter.writeValueAsBytes(progress));
+        out.write('\n');
+        // Push each update to the client while the upload continues
+        out.flush();
+    }
+
+    private static Reader bodyReader(HttpServletRequest request) throws IOException {
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+        return new InputStreamReader(request.getInputStream(), charset);
+    }
+}
@@ -0,0 +1,138 @@
+package org.bomartin.tvbingo.importer;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.bomartin.tvbingo.dto.ShowBatchResult;
+import org.bomartin.tvbingo.dto.ShowRequest;
+import org.bomartin.tvbingo.model.Show;
+import org.bomartin.tvbingo.service.ShowService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Imports shows from a {@link ShowRecordReader}. Rows are validated with the
+ * same constraints as {@code POST /api/shows} and written through the batch
+ * path in chunks, each chunk in its own transaction, so memory use depends on
+ * the chunk size rather than the size of the file.
+ */
+@Service
+public class ShowImporter {
+    private static final Logger log = LoggerFactory.getLogger(ShowImporter.class);
+
+    static final String CHUNK_FAILED_MSG = "Database constraint violation";
+
+    private final ShowService showService;
+    private final Validator validator;
+    private final int chunkSize;
+
+    @Autowired
+    public ShowImporter(ShowService showService, Validator validator,
+                        @Value("${tvbingo.import.chunk-size:500}") int chunkSize) {
+        this.showService = showService;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Reads every row, committing valid shows in chunks. Invalid rows and
+     * duplicate titles are counted and reported, and do not stop the import.
+     * A chunk the database rejects is rolled back and its rows reported as
+     * failed, and the import goes on with the next chunk. Chunks committed
+     * before an unexpected failure stay committed.
+     *
+     * @param reader the rows to import
+     * @param onChunk called with the running totals, without row errors, after
+     *                each committed chunk
+     * @return the final totals, with {@code done} set
+     */
+    public ImportProgress importShows(ShowRecordReader reader, Consumer<ImportProgress> onChunk) throws IOException {
+        ImportProgress progress = new ImportProgress();
+        List<Show> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+
+        ShowRecordReader.Row row;
+        while ((row = reader.next()) != null) {
+            progress.setRows(progress.getRows() + 1);
+            String error = row.error() != null ? row.error() : validate(row.show());
+            if (error != null) {
+                progress.setInvalid(progress.getInvalid() + 1);
+                progress.addError(row.line(), error);
+                continue;
+            }
+            chunk.add(toShow(row.show()));
+            chunkLines.add(row.line());
+            if (chunk.size() == chunkSize) {
+                commit(chunk, chunkLines, progress);
+                onChunk.accept(progress.totals());
+            }
+        }
+        if (!chunk.isEmpty()) {
+            commit(chunk, chunkLines, progress);
+        }
+        progress.setDone(true);
+        log.info("Imported {} of {} rows ({} duplicates, {} invalid, {} failed)", progress.getCreated(),
+                progress.getRows(), progress.getDuplicates(), progress.getInvalid(), progress.getFailed());
+        return progress;
+    }
+
+    private void commit(List<Show> chunk, List<Long> chunkLines, ImportProgress progress) {
+        ShowBatchResult result;
+        try {
+            result = showService.applyBatch(chunk, List.of(), List.of());
+        } catch (DataIntegrityViolationException e) {
+            // E.g. a title created by someone else after the batch checked it
+            log.warn("Import chunk of {} rows from line {} was rejected", chunk.size(), chunkLines.get(0), e);
+            progress.setFailed(progress.getFailed() + chunk.size());
+            chunkLines.forEach(line -> progress.addError(line, CHUNK_FAILED_MSG));
+            chunk.clear();
+            chunkLines.clear();
+            return;
+        }
+        List<ShowBatchResult.Item> items = result.getCreated();
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i).getStatus() == ShowBatchResult.Status.CREATED) {
+                progress.setCreated(progress.getCreated() + 1);
+            } else {
+                progress.setDuplicates(progress.getDuplicates() + 1);
+                progress.addError(chunkLines.get(i), "Show title must be unique");
+            }
+        }
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    /**
+     * @return the row's constraint violations as "field: message", or null if valid
+     */
+    private String validate(ShowRequest show) {
+        Set<ConstraintViolation<ShowRequest>> violations = validator.validate(show);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .reduce((a, b) -> a + "; " + b)
+                .orElseThrow();
+    }
+
+    private static Show toShow(ShowRequest request) {
+        return Show.builder()
+                .showTitle(request.getShowTitle())
+                .gameTitle(request.getGameTitle())
+                .centerSquare(request.getCenterSquare())
+                .phrases(request.getPhrases())
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package org.bomartin.tvbingo.importer;
+
+import org.bomartin.tvbingo.dto.ShowRequest;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads shows from an import file one line at a time, so only the current
+ * line is ever held in memory. A line that cannot be parsed is returned as a
+ * row with an error rather than ending the import.
+ */
+public abstract class ShowRecordReader {
+    // A full show (100-char titles, 150 phrases of 50 chars) is well under this;
+    // anything longer is rejected without being buffered
+    static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private final StringBuilder line = new StringBuilder();
+    private long lineNumber;
+    private boolean lineTooLong;
+
+    /**
+     * A parsed line: either a show or the reason it could not be read.
+     *
+     * @param line the 1-based line number in the file
+     * @param show the parsed show, or null if {@code error} is set
+     * @param error why the line was rejected, or null
+     */
+    public record Row(long line, ShowRequest show, String error) {
+    }
+
+    protected ShowRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * @return the next non-blank line as a row, or null at the end of the file
+     */
+    public Row next() throws IOException {
+        String text;
+        while ((text = readLine()) != null) {
+            if (lineTooLong) {
+                return new Row(lineNumber, null, "Line is longer than " + MAX_LINE_LENGTH + " characters");
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                return new Row(lineNumber, parse(text), null);
+            } catch (IllegalArgumentException | IOException e) {
+                return new Row(lineNumber, null, describe(e));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses one line of the file into a show.
+     *
+     * @throws IllegalArgumentException or IOException if the line is malformed
+     */
+    protected abstract ShowRequest parse(String line) throws IOException;
+
+    /**
+     * @return a message for a line that failed to parse, without parser internals
+     */
+    protected String describe(Exception e) {
+        return e instanceof IllegalArgumentException ? e.getMessage() : "Malformed line";
+    }
+
+    /**
+     * Reads up to the next line break. The excess of an over-long line is
+     * skipped and {@link #lineTooLong} is set instead of growing the buffer.
+     *
+     * @return the line without its terminator, or null at end of input
+     */
+    protected String readLine() throws IOException {
+        line.setLength(0);
+        lineTooLong = false;
+        boolean sawAny = false;
+        while (true) {
+            if (position == limit) {
+                limit = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    if (!sawAny) {
+                        return null;
+                    }
+                    break;
+                }
+            }
+            sawAny = true;
+            char c = buffer[position++];
+            if (c == '\n') {
+                break;
+            }
+            if (line.length() < MAX_LINE_LENGTH) {
+                line.append(c);
+            } else {
+                lineTooLong = true;
+            }
+        }
+        lineNumber++;
+        int end = line.length();
+        if (end > 0 && line.charAt(end - 1) == '\r') {
+            end--;
+        }
+        return line.substring(0, end);
+    }
+}
@@ -0,0 +1,229 @@
+package org.bomartin.tvbingo.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Times every JDBC statement run through the application's DataSource (see
+ * {@link QueryTimingConfig}) and attributes it to the repository method that
+ * issued it.
+ *
+ * <p>The caller is found by walking the stack for the first frame in this
+ * application: for Spring Data query methods that is the repository proxy, so
+ * statements are tagged {@code ShowRepository.findVersionById}; for the
+ * JdbcTemplate repositories and repository fragments it is the method itself,
+ * e.g. {@code ShowWriteRepository.insert}.
+ * Statements with no application frame (Liquibase, health checks) are tagged
+ * {@value #OTHER}. The walk costs a few microseconds per statement, small
+ * next to a database round trip.
+ *
+ * <p>Each caller gets a {@code tvbingo.jdbc.statements} timer. Statements slower
+ * than the threshold are logged, and the slowest ones are kept in memory for
+ * the {@code queries} actuator endpoint. Bind values are redacted in both:
+ * numbers, booleans and nulls are shown, anything else only by type, so
+ * titles and phrases never reach the log.
+ */
+@Component
+public class QueryStatistics implements QueryExecutionListener {
+    private static final Logger log = LoggerFactory.getLogger(QueryStatistics.class);
+
+    static final String METRIC = "tvbingo.jdbc.statements";
+    static final String OTHER = "other";
+
+    private static final String APP_PACKAGE = "org.bomartin.tvbingo.";
+    private static final String START_NANOS = QueryStatistics.class.getName() + ".start";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    /**
+     * One slow execution, as shown by the actuator endpoint.
+     *
+     * @param parameters redacted bind values of the first parameter set
+     */
+    public record SlowStatement(String caller, String sql, String parameters, double millis, Instant at) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final long thresholdNanos;
+    private final int slowestKept;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    // Min-heap of the slowest statements seen; guarded by itself
+    private final PriorityQueue<SlowStatement> slowest =
+            new PriorityQueue<>(Comparator.comparingDouble(SlowStatement::millis));
+    // Fastest entry of a full heap; statements at or below it skip the lock
+    private volatile double slowestFloorMillis;
+
+    @Autowired
+    public QueryStatistics(MeterRegistry meterRegistry,
+                           @Value("${tvbingo.jdbc.slow-query-threshold-ms:200}") long thresholdMillis,
+                           @Value("${tvbingo.jdbc.slowest-kept:20}") int slowestKept) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.slowestKept = slowestKept;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        long elapsed = start != null
+                ? System.nanoTime() - start
+                : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+        record(caller(), queryInfoList, elapsed);
+    }
+
+    void record(String caller, List<QueryInfo> queries, long elapsedNanos) {
+        timers.computeIfAbsent(caller, this::timer).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        double millis = elapsedNanos / 1_000_000.0;
+        boolean slow = elapsedNanos >= thresholdNanos;
+        if (!slow && millis <= slowestFloorMillis) {
+            return;
+        }
+        String sql = sql(queries);
+        String parameters = queries.isEmpty() ? "[]" : redact(queries.get(0).getParametersList());
+        if (slow) {
+            log.warn("Slow statement from {} took {} ms: {} {}", caller, String.format("%.1f", millis), sql, parameters);
+        }
+        keep(new SlowStatement(caller, sql, parameters, millis, Instant.now()));
+    }
+
+    private Timer timer(String caller) {
+        return Timer.builder(METRIC)
+                .description("JDBC statement execution time, by the repository method that issued it")
+                .tag("caller", caller)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private void keep(SlowStatement statement) {
+        synchronized (slowest) {
+            if (slowest.size() < slowestKept) {
+                slowest.add(statement);
+            } else if (statement.millis() > slowest.peek().millis()) {
+                slowest.poll();
+                slowest.add(statement);
+            }
+            if (slowest.size() == slowestKept) {
+                slowestFloorMillis = slowest.peek().millis();
+            }
+        }
+    }
+
+    /**
+     * @return the slowest statements kept, slowest first
+     */
+    public List<SlowStatement> slowest() {
+        List<SlowStatement> copy;
+        synchronized (slowest) {
+            copy = new ArrayList<>(slowest);
+        }
+        copy.sort(Comparator.comparingDouble(SlowStatement::millis).reversed());
+        return copy;
+    }
+
+    /**
+     * Forgets the slowest statements kept so far. Timers are cumulative and
+     * are not reset.
+     */
+    public void clearSlowest() {
+        synchronized (slowest) {
+            slowest.clear();
+            slowestFloorMillis = 0;
+        }
+    }
+
+    public long thresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(thresholdNanos);
+    }
+
+    static String caller() {
+        return STACK_WALKER.walk(frames -> frames
+                        .map(QueryStatistics::describe)
+                        .filter(name -> name != null)
+                        .findFirst())
+                .orElse(OTHER);
+    }
+
+    private static String describe(StackWalker.StackFrame frame) {
+        Class<?> type = frame.getDeclaringClass();
+        if (Proxy.isProxyClass(type)) {
+            for (Class<?> contract : type.getInterfaces()) {
+                if (Repository.class.isAssignableFrom(contract) && contract.getName().startsWith(APP_PACKAGE)) {
+                    return contract.getSimpleName() + "." + frame.getMethodName();
+                }
+            }
+            return null;
+        }
+        String name = type.getName();
+        if (!name.startsWith(APP_PACKAGE) || name.contains("$$")
+                || type.getPackageName().equals(QueryStatistics.class.getPackageName())) {
+            return null;
+        }
+        return type.getSimpleName() + "." + frame.getMethodName();
+    }
+
+    private static String sql(List<QueryInfo> queries) {
+        if (queries.size() == 1) {
+            return queries.get(0).getQuery();
+        }
+        // Statement batches may mix statements; prepared batches repeat one
+        return queries.stream().map(QueryInfo::getQuery).distinct().collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Formats the first parameter set, e.g. {@code [1=42, 2=<String>, 3=NULL]},
+     * noting how many more sets a batch had.
+     */
+    static String redact(List<List<ParameterSetOperation>> parameterSets) {
+        if (parameterSets == null || parameterSets.isEmpty()) {
+            return "[]";
+        }
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (ParameterSetOperation operation : parameterSets.get(0)) {
+            Object[] args = operation.getArgs();
+            if (args == null || args.length < 2) {
+                continue;
+            }
+            joiner.add(args[0] + "=" + redactValue(operation.getMethod().getName(), args[1]));
+        }
+        String first = joiner.toString();
+        return parameterSets.size() == 1 ? first : first + " (+" + (parameterSets.size() - 1) + " more sets)";
+    }
+
+    private static String redactValue(String setter, Object value) {
+        if ("setNull".equals(setter) || value == null) {
+            return "NULL";
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        return "<" + value.getClass().getSimpleName() + ">";
+    }
+}
@@ -0,0 +1,63 @@
+package org.bomartin.tvbingo.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bomartin.tvbingo.jdbc.QueryStatistics.SlowStatement;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Actuator endpoint ({@code /actuator/queries}) showing where JDBC time goes:
+ * statement counts and time per calling repository method, most total time
+ * first, and the slowest individual statements with redacted bind values.
+ * A DELETE clears the slowest-statement table.
+ */
+@Component
+@Endpoint(id = "queries")
+public class QueryStatisticsEndpoint {
+
+    private final QueryStatistics queryStatistics;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param maxMillis longest statement in the timer's recent window, not all time
+     */
+    public record CallerSummary(String caller, long count, double totalMillis, double meanMillis, double maxMillis) {
+    }
+
+    public record QueryReport(long slowQueryThresholdMillis, List<CallerSummary> callers, List<SlowStatement> slowest) {
+    }
+
+    @Autowired
+    public QueryStatisticsEndpoint(QueryStatistics queryStatistics, MeterRegistry meterRegistry) {
+        this.queryStatistics = queryStatistics;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @ReadOperation
+    public QueryReport report() {
+        List<CallerSummary> callers = meterRegistry.find(QueryStatistics.METRIC).timers().stream()
+                .map(QueryStatisticsEndpoint::summarize)
+                .sorted(Comparator.comparingDouble(CallerSummary::totalMillis).reversed())
+                .toList();
+        return new QueryReport(queryStatistics.thresholdMillis(), callers, queryStatistics.slowest());
+    }
+
+    @DeleteOperation
+    public void clearSlowest() {
+        queryStatistics.clearSlowest();
+    }
+
+    private static CallerSummary summarize(Timer timer) {
+        return new CallerSummary(timer.getId().getTag("caller"), timer.count(),
+                timer.totalTime(TimeUnit.MILLISECONDS), timer.mean(TimeUnit.MILLISECONDS),
+                timer.max(TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,39 @@
+package org.bomartin.tvbingo.jdbc;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's DataSource in a datasource-proxy that reports every
+ * statement to {@link QueryStatistics}. Everything that obtains connections
+ * from the context's DataSource is covered: Spring Data repositories, the
+ * JdbcTemplate repositories and Liquibase. With read replicas configured this
+ * is the routing DataSource, so replica reads are timed with the rest.
+ */
+@Configuration
+public class QueryTimingConfig {
+
+    // Static so the post-processor is registered before the DataSource is
+    // created; QueryStatistics is looked up only when the DataSource is wrapped
+    @Bean
+    static BeanPostProcessor queryTimingDataSourcePostProcessor(ObjectProvider<QueryStatistics> statistics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(statistics.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,174 @@
+package org.bomartin.tvbingo.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The read replicas behind {@link ReadWriteRoutingDataSource}: which of them
+ * are healthy, and whether this instance wrote recently enough that reads
+ * must still go to the primary.
+ *
+ * <p>A replica is healthy while it answers the periodic check and its
+ * replication lag is within {@code tvbingo.datasource.replica-max-lag-ms}.
+ * Replicas start unhealthy, so reads go to the primary until the first check
+ * has passed. A replica that fails to hand out a connection is taken out of
+ * rotation straight away; one that fails mid-statement is taken out by the
+ * next check.
+ */
+public class ReadReplicas implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicas.class);
+
+    // Zero when the replica has replayed all WAL it has received: an idle
+    // primary sends nothing, so the last replayed transaction can be old while
+    // the replica is fully caught up. NULL (read as 0) on a server that is not
+    // a standby.
+    static final String LAG_SQL =
+            "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END";
+
+    private static final int CHECK_TIMEOUT_SECONDS = 2;
+
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final long readYourWritesMillis;
+    private final long readYourWritesNanos;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile long lastWriteNanos;
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    /**
+     * @param dataSources one pool per replica, named {@code replica-1} onwards in logs
+     * @param maxLagMillis replication lag above which a replica is not used
+     * @param readYourWritesMillis how long after a write its client, and this
+     *                             instance, read from the primary
+     */
+    public ReadReplicas(List<DataSource> dataSources, long maxLagMillis, long readYourWritesMillis) {
+        this.replicas = new ArrayList<>(dataSources.size());
+        for (int i = 0; i < dataSources.size(); i++) {
+            replicas.add(new Replica("replica-" + (i + 1), dataSources.get(i)));
+        }
+        this.maxLagMillis = maxLagMillis;
+        this.readYourWritesMillis = readYourWritesMillis;
+        this.readYourWritesNanos = TimeUnit.MILLISECONDS.toNanos(readYourWritesMillis);
+        this.lastWriteNanos = System.nanoTime() - readYourWritesNanos - 1;
+    }
+
+    /**
+     * Borrows a connection from the next healthy replica in turn, trying the
+     * others if it fails.
+     *
+     * @return the connection, or null if no replica could provide one
+     */
+    Connection getConnection() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks every replica's connectivity and lag, taking unhealthy replicas
+     * out of rotation and returning recovered ones.
+     */
+    @Scheduled(fixedDelayString = "${tvbingo.datasource.replica-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            String problem;
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(CHECK_TIMEOUT_SECONDS);
+                try (ResultSet rs = statement.executeQuery(LAG_SQL)) {
+                    rs.next();
+                    double lagMillis = rs.getDouble(1);
+                    problem = lagMillis > maxLagMillis
+                            ? String.format("%.0f ms behind the primary", lagMillis)
+                            : null;
+                }
+            } catch (SQLException e) {
+                problem = e.getMessage();
+            }
+
+            if (problem != null) {
+                markDown(replica, problem);
+            } else if (!replica.healthy) {
+                replica.healthy = true;
+                log.info("Read replica {} is healthy, routing reads to it", replica.name);
+            }
+        }
+    }
+
+    private void markDown(Replica replica, String problem) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Read replica {} is unhealthy, reading from the primary instead: {}", replica.name, problem);
+        }
+    }
+
+    /** @return the number of replicas currently in rotation */
+    public int healthyCount() {
+        int healthy = 0;
+        for (Replica replica : replicas) {
+            if (replica.healthy) {
+                healthy++;
+            }
+        }
+        return healthy;
+    }
+
+    /**
+     * Starts this instance's read-your-writes window. Caches in this instance
+     * are evicted on write, so a replica read soon after could otherwise refill
+     * them with the row as it was before the write.
+     */
+    void markWritten() {
+        lastWriteNanos = System.nanoTime();
+    }
+
+    boolean recentlyWritten() {
+        return System.nanoTime() - lastWriteNanos <= readYourWritesNanos;
+    }
+
+    long readYourWritesMillis() {
+        return readYourWritesMillis;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
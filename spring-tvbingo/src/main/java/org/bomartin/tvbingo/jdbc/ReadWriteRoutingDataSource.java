@@ -0,0 +1,81 @@
+package org.bomartin.tvbingo.jdbc;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Hands out primary connections, except to a thread that has been routed to
+ * the replicas for the current request (see ReplicaRoutingInterceptor), which
+ * gets a connection from a healthy replica. With no healthy replica the
+ * primary serves the read.
+ *
+ * <p>The route is chosen when a connection is borrowed, so it covers every
+ * statement of a transaction begun on the routed thread and nothing borrowed
+ * before or after the request.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements Closeable {
+    private static final ThreadLocal<Boolean> REPLICA_ROUTE = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final ReadReplicas replicas;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReadReplicas replicas) {
+        this.primary = primary;
+        this.replicas = replicas;
+    }
+
+    static void routeToReplica() {
+        REPLICA_ROUTE.set(Boolean.TRUE);
+    }
+
+    static void clearRoute() {
+        REPLICA_ROUTE.remove();
+    }
+
+    static boolean isRoutedToReplica() {
+        return REPLICA_ROUTE.get() != null;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (isRoutedToReplica()) {
+            Connection connection = replicas.getConnection();
+            if (connection != null) {
+                return connection;
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    // Unwraps to the primary pool, so actuator still publishes its pool metrics
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T) this;
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (primary instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+}
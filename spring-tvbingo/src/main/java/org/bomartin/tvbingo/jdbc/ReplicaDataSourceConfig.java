@@ -0,0 +1,85 @@
+package org.bomartin.tvbingo.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read/write splitting, enabled by listing replica JDBC URLs in
+ * {@code tvbingo.datasource.replica-urls}. Without it the single
+ * {@code spring.datasource} serves everything, as before.
+ *
+ * <p>The application DataSource becomes a {@link ReadWriteRoutingDataSource}
+ * over the primary (configured by {@code spring.datasource.*} as usual) and
+ * one read-only pool per replica. Only {@link ReplicaReads} requests read from
+ * a replica; everything else, including Liquibase, scheduled jobs and games,
+ * uses the primary.
+ */
+@Configuration
+@ConditionalOnExpression("!'${tvbingo.datasource.replica-urls:}'.isBlank()")
+public class ReplicaDataSourceConfig {
+
+    // A replica that cannot hand out a connection should fail over to the
+    // primary quickly rather than hold the request for Hikari's default 30s
+    private static final long REPLICA_CONNECTION_TIMEOUT_MS = 2000;
+
+    @Bean
+    public ReadReplicas readReplicas(
+            Environment environment,
+            @Value("${tvbingo.datasource.replica-urls}") String[] urls,
+            @Value("${tvbingo.datasource.replica-username:${spring.datasource.username:}}") String username,
+            @Value("${tvbingo.datasource.replica-password:${spring.datasource.password:}}") String password,
+            @Value("${tvbingo.datasource.replica-max-lag-ms:1000}") long maxLagMillis,
+            @Value("${tvbingo.datasource.read-your-writes-ms:5000}") long readYourWritesMillis) {
+        List<DataSource> pools = new ArrayList<>(urls.length);
+        for (String url : urls) {
+            HikariDataSource pool = hikari(environment, new HikariDataSource());
+            pool.setPoolName("replica-" + (pools.size() + 1));
+            pool.setJdbcUrl(url.strip());
+            pool.setUsername(username);
+            pool.setPassword(password);
+            pool.setReadOnly(true);
+            pool.setConnectionTimeout(REPLICA_CONNECTION_TIMEOUT_MS);
+            pools.add(pool);
+        }
+        return new ReadReplicas(pools, maxLagMillis, readYourWritesMillis);
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment,
+                                 ReadReplicas readReplicas) {
+        HikariDataSource primary = hikari(environment,
+                properties.initializeDataSourceBuilder().type(HikariDataSource.class).build());
+        return new ReadWriteRoutingDataSource(primary, readReplicas);
+    }
+
+    @Bean
+    public WebMvcConfigurer replicaRoutingConfigurer(ReadReplicas readReplicas) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new ReplicaRoutingInterceptor(readReplicas))
+                        .addPathPatterns("/api/**");
+            }
+        };
+    }
+
+    // Applies spring.datasource.hikari.* (pool size and so on) to every pool,
+    // as Boot does for the DataSource it would otherwise create
+    private static HikariDataSource hikari(Environment environment, HikariDataSource pool) {
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        return pool;
+    }
+}
@@ -0,0 +1,21 @@
+package org.bomartin.tvbingo.jdbc;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller method, or every method of a controller, whose requests
+ * only read and may be served from a read replica (see ReplicaDataSourceConfig).
+ * Such a request still reads from the primary while its client is within the
+ * read-your-writes window, or when no replica is healthy.
+ *
+ * <p>Has no effect when no replicas are configured.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReplicaReads {
+}
@@ -0,0 +1,91 @@
+package org.bomartin.tvbingo.jdbc;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.lang.annotation.Annotation;
+import java.time.Duration;
+
+/**
+ * Routes {@link ReplicaReads} requests to the read replicas, and gives
+ * clients read-your-writes consistency after they write.
+ *
+ * <p>Only {@link ShowWrites} handlers count as writes, whatever the HTTP
+ * method; game and room calls never touch what replicas serve. A write's
+ * response carries a short-lived {@value #COOKIE} cookie, and while a client
+ * presents it, its reads go to the primary, whichever instance serves them.
+ * The cookie is set before the handler runs, as the response may be
+ * committed by the time it returns. Writes also start a window on this
+ * instance in which all reads go to the primary (see
+ * {@link ReadReplicas#markWritten()}).
+ */
+class ReplicaRoutingInterceptor implements AsyncHandlerInterceptor {
+    static final String COOKIE = "tvbingo-primary";
+
+    private final ReadReplicas replicas;
+    private final String stickyCookie;
+
+    ReplicaRoutingInterceptor(ReadReplicas replicas) {
+        this.replicas = replicas;
+        // Rounded up, since a zero Max-Age would delete the cookie
+        this.stickyCookie = ResponseCookie.from(COOKIE, "1")
+                .path("/api")
+                .maxAge(Duration.ofSeconds((replicas.readYourWritesMillis() + 999) / 1000))
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build()
+                .toString();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isAnnotated(handler, ReplicaReads.class)) {
+            if (!replicas.recentlyWritten() && !hasStickyCookie(request)) {
+                ReadWriteRoutingDataSource.routeToReplica();
+            }
+        } else if (isAnnotated(handler, ShowWrites.class)) {
+            replicas.markWritten();
+            response.addHeader(HttpHeaders.SET_COOKIE, stickyCookie);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        ReadWriteRoutingDataSource.clearRoute();
+        // Restarted on completion, so the window runs from the commit
+        if (isAnnotated(handler, ShowWrites.class)) {
+            replicas.markWritten();
+        }
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        ReadWriteRoutingDataSource.clearRoute();
+    }
+
+    private static boolean isAnnotated(Object handler, Class<? extends Annotation> annotation) {
+        return handler instanceof HandlerMethod method
+                && (method.hasMethodAnnotation(annotation)
+                    || method.getBeanType().isAnnotationPresent(annotation));
+    }
+
+    private static boolean hasStickyCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (COOKIE.equals(cookie.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
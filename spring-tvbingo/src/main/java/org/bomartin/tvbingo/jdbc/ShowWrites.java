@@ -0,0 +1,24 @@
+package org.bomartin.tvbingo.jdbc;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller method, or every method of a controller, that writes
+ * shows. Its client, and this instance, then read shows from the primary for
+ * the read-your-writes window (see ReplicaRoutingInterceptor), so
+ * {@link ReplicaReads} requests see the write.
+ *
+ * <p>Other writes (games, rooms) are not marked: no replica read depends on
+ * them, and they are frequent enough to keep the window permanently open.
+ *
+ * <p>Has no effect when no replicas are configured.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ShowWrites {
+}
@@ -5,10 +5,15 @@ import lombok.Builder;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.NotBlank;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Table;
 import org.springframework.data.relational.core.mapping.Column;
 
@@ -31,6 +36,20 @@ public class Show {
     @Column("center_square")
     private String centerSquare;
     
+    // Stored as phrase dictionary ids (shows.phrase_ids); ShowEntityRepository
+    // resolves them, so Spring Data's own mapping skips this property
+    @Transient
     @Builder.Default
     private List<String> phrases = new ArrayList<>();
+
+    // Optimistic lock: saving a stale copy fails instead of overwriting a newer
+    // edit. The shows trigger also bumps it for updates made outside Spring Data.
+    @Version
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long version;
+
+    @ReadOnlyProperty
+    @Column("updated_at")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Instant updatedAt;
 } 
\ No newline at end of file
@@ -0,0 +1,57 @@
+package org.bomartin.tvbingo.phrase;
+
+import org.bomartin.tvbingo.jdbc.ReplicaReads;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * REST controller for cross-show phrase analytics over the phrase dictionary.
+ */
+@RestController
+@RequestMapping("/api/phrases")
+@ReplicaReads
+public class PhraseController {
+    static final int MAX_LIMIT = 100;
+
+    private final PhraseRepository phraseRepository;
+
+    @Autowired
+    public PhraseController(PhraseRepository phraseRepository) {
+        this.phraseRepository = phraseRepository;
+    }
+
+    /**
+     * Lists the phrases shared by the most shows.
+     *
+     * @param limit maximum number of phrases, 1 to 100
+     * @return the phrases with their show counts, most used first
+     * @throws ResponseStatusException if the limit is out of range
+     */
+    @GetMapping("/popular")
+    public List<PhraseUsage> getPopularPhrases(@RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "limit must be between 1 and " + MAX_LIMIT);
+        }
+        return phraseRepository.findMostUsed(limit);
+    }
+
+    /**
+     * Lists the shows that use a dictionary phrase.
+     *
+     * @param id the dictionary id of the phrase
+     * @return the show ids, empty if no show uses it
+     */
+    @GetMapping("/{id}/shows")
+    public List<Long> getShowsUsingPhrase(@PathVariable int id) {
+        return phraseRepository.findShowIds(id);
+    }
+}
@@ -0,0 +1,71 @@
+package org.bomartin.tvbingo.phrase;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Read access to the phrase dictionary.
+ *
+ * <p>{@code shows.phrase_ids} is the only stored copy of a show's phrases.
+ * Show writes go through {@code tvbingo_schema.intern_phrases}, which adds
+ * texts the dictionary has not seen and returns one id per phrase, so this
+ * class never inserts. Entries are keyed by exact text so a show reads back
+ * what was saved; {@code normalized} (lower-cased, punctuation stripped
+ * unless that leaves nothing, whitespace collapsed) groups spellings of the
+ * same phrase for the analytics here.
+ */
+@Repository
+@Timed(value = "tvbingo.repository", histogram = true)
+public class PhraseRepository {
+    // Spellings are counted together under the first one saved; blank phrases
+    // normalise to '' and are left out
+    private static final String POPULAR_SQL = """
+            SELECT min(p.id) AS id, (array_agg(p.text ORDER BY p.id))[1] AS text,
+                   count(DISTINCT s.id) AS show_count
+            FROM tvbingo_schema.shows s, unnest(s.phrase_ids) AS ids(phrase_id)
+            JOIN tvbingo_schema.phrases p ON p.id = ids.phrase_id
+            WHERE p.normalized <> ''
+            GROUP BY p.normalized
+            ORDER BY show_count DESC, id
+            LIMIT ?""";
+
+    private static final String SHOW_IDS_SQL = """
+            SELECT id FROM tvbingo_schema.shows
+            WHERE phrase_ids && ARRAY(
+                SELECT id FROM tvbingo_schema.phrases
+                WHERE normalized = (SELECT normalized FROM tvbingo_schema.phrases WHERE id = ?))
+            ORDER BY id""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PhraseRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Returns the phrases used by the most shows, most used first.
+     *
+     * @param limit maximum number of phrases to return
+     * @return the phrases with their show counts
+     */
+    public List<PhraseUsage> findMostUsed(int limit) {
+        return jdbcTemplate.query(POPULAR_SQL,
+                (rs, rowNum) -> new PhraseUsage(rs.getInt("id"), rs.getString("text"), rs.getLong("show_count")),
+                limit);
+    }
+
+    /**
+     * Returns the ids of the shows that use a dictionary phrase in any
+     * spelling, in id order.
+     *
+     * @param phraseId the dictionary id
+     * @return the show ids, empty if no show uses the phrase
+     */
+    public List<Long> findShowIds(int phraseId) {
+        return jdbcTemplate.queryForList(SHOW_IDS_SQL, Long.class, phraseId);
+    }
+}
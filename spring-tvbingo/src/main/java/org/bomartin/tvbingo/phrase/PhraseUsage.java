@@ -0,0 +1,17 @@
+package org.bomartin.tvbingo.phrase;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A dictionary phrase and the number of shows that use it.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PhraseUsage {
+    private Integer id;
+    private String text;
+    private long showCount;
+}
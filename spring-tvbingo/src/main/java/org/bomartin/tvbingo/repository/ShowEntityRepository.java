@@ -0,0 +1,23 @@
+package org.bomartin.tvbingo.repository;
+
+import org.bomartin.tvbingo.model.Show;
+
+import java.util.Optional;
+
+/**
+ * The {@link ShowRepository} methods that read or write whole shows. Spring
+ * Data cannot map {@code Show.phrases} onto {@code shows.phrase_ids}, so these
+ * replace its implementations with ones that go through the phrase dictionary
+ * (see {@link ShowEntityRepositoryImpl}).
+ */
+public interface ShowEntityRepository {
+    <S extends Show> S save(S show);
+
+    <S extends Show> Iterable<S> saveAll(Iterable<S> shows);
+
+    Optional<Show> findById(Long id);
+
+    Iterable<Show> findAll();
+
+    Iterable<Show> findAllById(Iterable<Long> ids);
+}
@@ -0,0 +1,97 @@
+package org.bomartin.tvbingo.repository;
+
+import org.bomartin.tvbingo.model.Show;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.StreamSupport;
+
+/**
+ * Saves and loads shows with their phrases stored as dictionary ids. Follows
+ * Spring Data's rules: a show without a version is inserted (with its id, if
+ * it has one), and one with a version is updated only while the stored row
+ * still has that version.
+ */
+class ShowEntityRepositoryImpl implements ShowEntityRepository {
+    private static final String RETURNING = " RETURNING " + ShowStreamRepository.SHOW_COLUMNS;
+
+    private static final String INSERT_SHOW =
+            "INSERT INTO tvbingo_schema.shows (show_title, game_title, center_square, phrase_ids) "
+            + "VALUES (:showTitle, :gameTitle, :centerSquare, " + ShowWriteRepository.INTERN_PHRASES + ")"
+            + RETURNING;
+
+    private static final String INSERT_SHOW_WITH_ID =
+            "INSERT INTO tvbingo_schema.shows (id, show_title, game_title, center_square, phrase_ids) "
+            + "VALUES (:id, :showTitle, :gameTitle, :centerSquare, " + ShowWriteRepository.INTERN_PHRASES + ")"
+            + RETURNING;
+
+    private static final String UPDATE_SHOW =
+            "UPDATE tvbingo_schema.shows SET show_title = :showTitle, game_title = :gameTitle, "
+            + "center_square = :centerSquare, phrase_ids = " + ShowWriteRepository.INTERN_PHRASES + " "
+            + "WHERE id = :id AND version = :version" + RETURNING;
+
+    private static final RowMapper<Show> SHOW_ROW_MAPPER = (rs, rowNum) -> ShowStreamRepository.mapShow(rs);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    ShowEntityRepositoryImpl(DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    @Transactional
+    public <S extends Show> S save(S show) {
+        MapSqlParameterSource params = ShowWriteRepository.fieldParams(show).addValue("id", show.getId());
+        Show saved;
+        if (show.getVersion() == null) {
+            String sql = show.getId() == null ? INSERT_SHOW : INSERT_SHOW_WITH_ID;
+            saved = jdbcTemplate.queryForObject(sql, params, SHOW_ROW_MAPPER);
+        } else {
+            params.addValue("version", show.getVersion());
+            saved = jdbcTemplate.query(UPDATE_SHOW, params, SHOW_ROW_MAPPER).stream().findFirst()
+                    .orElseThrow(() -> new OptimisticLockingFailureException(
+                            "Show " + show.getId() + " is missing or no longer at version " + show.getVersion()));
+        }
+        show.setId(saved.getId());
+        show.setPhrases(saved.getPhrases());
+        show.setVersion(saved.getVersion());
+        show.setUpdatedAt(saved.getUpdatedAt());
+        return show;
+    }
+
+    @Override
+    @Transactional
+    public <S extends Show> Iterable<S> saveAll(Iterable<S> shows) {
+        List<S> saved = new ArrayList<>();
+        shows.forEach(show -> saved.add(save(show)));
+        return saved;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Show> findById(Long id) {
+        return jdbcTemplate.query(ShowStreamRepository.SELECT_SHOWS + " WHERE id = :id", new MapSqlParameterSource("id", id),
+                SHOW_ROW_MAPPER).stream().findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Iterable<Show> findAll() {
+        return jdbcTemplate.query(ShowStreamRepository.SELECT_SHOWS + " ORDER BY id", SHOW_ROW_MAPPER);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Iterable<Show> findAllById(Iterable<Long> ids) {
+        Long[] idArray = StreamSupport.stream(ids.spliterator(), false).toArray(Long[]::new);
+        return jdbcTemplate.query(ShowStreamRepository.SELECT_SHOWS + " WHERE id = ANY(:ids) ORDER BY id",
+                new MapSqlParameterSource("ids", idArray), SHOW_ROW_MAPPER);
+    }
+}
@@ -1,16 +1,58 @@
 package org.bomartin.tvbingo.repository;
 
+import org.bomartin.tvbingo.dto.ShowSearchHit;
+import org.bomartin.tvbingo.dto.ShowSummary;
+import org.bomartin.tvbingo.dto.ShowVersion;
 import org.bomartin.tvbingo.model.Show;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface ShowRepository extends CrudRepository<Show, Long> {
+public interface ShowRepository extends CrudRepository<Show, Long>, ShowEntityRepository {
     @Query("SELECT COUNT(*) > 0 FROM tvbingo_schema.shows WHERE show_title = :showTitle")
     boolean existsByShowTitle(@Param("showTitle") String showTitle);
 
     @Query("SELECT COUNT(*) > 0 FROM tvbingo_schema.shows WHERE show_title = :showTitle AND id != :id")
     boolean existsByShowTitleExceptId(@Param("showTitle") String showTitle, @Param("id") Long id);
-} 
\ No newline at end of file
+
+    // cardinality() is computed in Postgres so the phrase ids are never transferred
+    @Query(value = "SELECT id, show_title, game_title, COALESCE(cardinality(phrase_ids), 0) AS phrase_count "
+            + "FROM tvbingo_schema.shows ORDER BY id",
+            rowMapperClass = ShowSummaryRowMapper.class)
+    List<ShowSummary> findAllSummaries();
+
+    @Query(value = "SELECT version::text AS etag, updated_at AS last_modified "
+            + "FROM tvbingo_schema.shows WHERE id = :id",
+            rowMapperClass = ShowVersionRowMapper.class)
+    Optional<ShowVersion> findVersionById(@Param("id") Long id);
+
+    // A counter bumped by every statement that writes shows (changeSet 12), so
+    // the tag changes whenever the list does and never repeats
+    @Query(value = "SELECT version::text AS etag, updated_at AS last_modified "
+            + "FROM tvbingo_schema.show_list_version",
+            rowMapperClass = ShowVersionRowMapper.class)
+    ShowVersion findListVersion();
+
+    // Full-text matches (GIN on search_vector) and fuzzy trigram matches on the
+    // titles (GIN trigram indexes) are combined with OR, which the planner
+    // answers as a BitmapOr over the indexes. Fuzzy phrase matches are found in
+    // the phrase dictionary first and then through the GIN index on phrase_ids.
+    // Trigram operators are schema-qualified because pg_trgm lives in
+    // tvbingo_schema (changeSet 08).
+    @Query(value = "SELECT id, show_title, game_title, COALESCE(cardinality(phrase_ids), 0) AS phrase_count, "
+            + "ts_rank_cd(search_vector, query) + tvbingo_schema.similarity(show_title, :q) AS rank "
+            + "FROM tvbingo_schema.shows, websearch_to_tsquery('english', :q) AS query "
+            + "WHERE search_vector @@ query "
+            + "OR show_title OPERATOR(tvbingo_schema.%) :q "
+            + "OR game_title OPERATOR(tvbingo_schema.%) :q "
+            + "OR phrase_ids && ARRAY(SELECT id FROM tvbingo_schema.phrases "
+            + "WHERE :q OPERATOR(tvbingo_schema.<%) text) "
+            + "ORDER BY rank DESC, id LIMIT :limit OFFSET :offset",
+            rowMapperClass = ShowSearchHitRowMapper.class)
+    List<ShowSearchHit> search(@Param("q") String query, @Param("limit") int limit, @Param("offset") int offset);
+}
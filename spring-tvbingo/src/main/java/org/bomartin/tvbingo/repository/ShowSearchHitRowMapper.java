@@ -0,0 +1,24 @@
+package org.bomartin.tvbingo.repository;
+
+import org.bomartin.tvbingo.dto.ShowSearchHit;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps the columns selected by {@link ShowRepository#search} to a {@link ShowSearchHit}.
+ */
+public class ShowSearchHitRowMapper implements RowMapper<ShowSearchHit> {
+
+    @Override
+    public ShowSearchHit mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return ShowSearchHit.builder()
+                .id(rs.getLong("id"))
+                .showTitle(rs.getString("show_title"))
+                .gameTitle(rs.getString("game_title"))
+                .phraseCount(rs.getInt("phrase_count"))
+                .rank(rs.getDouble("rank"))
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package org.bomartin.tvbingo.repository;
+
+import io.micrometer.core.annotation.Timed;
+import org.bomartin.tvbingo.model.Show;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Row-at-a-time access to the shows table for callers that must not
+ * materialise the whole table (list streaming, exports).
+ *
+ * <p>Rows are read in id order using keyset pagination ({@code id > after}),
+ * so each page is an index range scan regardless of how deep the cursor is.
+ * The fetch size only takes effect inside a transaction: the Postgres driver
+ * ignores it under autocommit and buffers the full result, so callers should
+ * run these methods within {@code @Transactional(readOnly = true)}.
+ *
+ * <p>The {@code tvbingo.repository} timer for {@link #forEachShow} covers the
+ * callbacks too, so for exports it is the time to write the whole response.
+ */
+@Repository
+@Timed(value = "tvbingo.repository", histogram = true)
+public class ShowStreamRepository {
+    static final int FETCH_SIZE = 100;
+
+    // Every column of a Show, for mapShow. Phrases are stored as dictionary
+    // ids and resolved back to their texts in order (changeSet 11).
+    static final String SHOW_COLUMNS = "id, show_title, game_title, center_square, "
+            + "tvbingo_schema.phrase_texts(phrase_ids) AS phrases, version, updated_at";
+
+    static final String SELECT_SHOWS = "SELECT " + SHOW_COLUMNS + " FROM tvbingo_schema.shows";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ShowStreamRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    /**
+     * Passes each show with an id greater than {@code after} to {@code action},
+     * in ascending id order, as rows come off the result set.
+     *
+     * @param after exclusive lower bound on id, or null to start at the beginning
+     * @param limit maximum number of rows to read, or null for no limit
+     * @param action callback invoked once per row
+     */
+    public void forEachShow(Long after, Integer limit, Consumer<Show> action) {
+        StringBuilder sql = new StringBuilder(SELECT_SHOWS);
+        List<Object> args = new ArrayList<>(2);
+        if (after != null) {
+            sql.append(" WHERE id > ?");
+            args.add(after);
+        }
+        sql.append(" ORDER BY id");
+        if (limit != null) {
+            sql.append(" LIMIT ?");
+            args.add(limit);
+        }
+        RowCallbackHandler handler = rs -> action.accept(mapShow(rs));
+        jdbcTemplate.query(sql.toString(), handler, args.toArray());
+    }
+
+    static Show mapShow(ResultSet rs) throws SQLException {
+        return Show.builder()
+                .id(rs.getLong("id"))
+                .showTitle(rs.getString("show_title"))
+                .gameTitle(rs.getString("game_title"))
+                .centerSquare(rs.getString("center_square"))
+                .phrases(toList(rs.getArray("phrases")))
+                .version(rs.getLong("version"))
+                .updatedAt(rs.getTimestamp("updated_at").toInstant())
+                .build();
+    }
+
+    private static List<String> toList(Array array) throws SQLException {
+        if (array == null) {
+            return new ArrayList<>();
+        }
+        try {
+            return new ArrayList<>(Arrays.asList((String[]) array.getArray()));
+        } finally {
+            array.free();
+        }
+    }
+}
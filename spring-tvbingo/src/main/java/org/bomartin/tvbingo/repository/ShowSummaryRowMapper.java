@@ -0,0 +1,23 @@
+package org.bomartin.tvbingo.repository;
+
+import org.bomartin.tvbingo.dto.ShowSummary;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps the columns selected by {@link ShowRepository#findAllSummaries()} to a {@link ShowSummary}.
+ */
+public class ShowSummaryRowMapper implements RowMapper<ShowSummary> {
+
+    @Override
+    public ShowSummary mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return ShowSummary.builder()
+                .id(rs.getLong("id"))
+                .showTitle(rs.getString("show_title"))
+                .gameTitle(rs.getString("game_title"))
+                .phraseCount(rs.getInt("phrase_count"))
+                .build();
+    }
+}
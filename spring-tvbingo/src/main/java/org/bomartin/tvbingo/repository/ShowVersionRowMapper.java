@@ -0,0 +1,24 @@
+package org.bomartin.tvbingo.repository;
+
+import org.bomartin.tvbingo.dto.ShowVersion;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Maps the {@code etag} and {@code last_modified} columns selected by the
+ * {@link ShowRepository} version queries to a {@link ShowVersion}.
+ */
+public class ShowVersionRowMapper implements RowMapper<ShowVersion> {
+
+    @Override
+    public ShowVersion mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp lastModified = rs.getTimestamp("last_modified");
+        return ShowVersion.builder()
+                .etag(rs.getString("etag"))
+                .lastModified(lastModified != null ? lastModified.toInstant() : null)
+                .build();
+    }
+}
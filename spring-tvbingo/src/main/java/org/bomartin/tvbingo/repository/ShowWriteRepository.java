@@ -0,0 +1,233 @@
+package org.bomartin.tvbingo.repository;
+
+import io.micrometer.core.annotation.Timed;
+import org.bomartin.tvbingo.model.Show;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Single-statement writes to the shows table. Each method is one round trip
+ * that both checks its precondition and returns the resulting row, where the
+ * CrudRepository equivalents need a read before or after the write.
+ */
+@Repository
+@Timed(value = "tvbingo.repository", histogram = true)
+public class ShowWriteRepository {
+    private static final String RETURNING = " RETURNING " + ShowStreamRepository.SHOW_COLUMNS;
+
+    // The :phrases texts as dictionary ids; only phrases the dictionary does
+    // not have yet are inserted (changeSet 11)
+    static final String INTERN_PHRASES = "tvbingo_schema.intern_phrases(CAST(:phrases AS text[]))";
+
+    // version and updated_at are bumped by the shows trigger (changeSet 07)
+    private static final String UPDATE_FIELDS =
+            "UPDATE tvbingo_schema.shows SET show_title = :showTitle, game_title = :gameTitle, "
+            + "center_square = :centerSquare, phrase_ids = " + INTERN_PHRASES + " "
+            + "WHERE id = :id AND version = :version";
+
+    private static final String UPDATE_SHOW = UPDATE_FIELDS + RETURNING;
+
+    private static final String INSERT_FIELDS =
+            "INSERT INTO tvbingo_schema.shows (show_title, game_title, center_square, phrase_ids) "
+            + "VALUES (:showTitle, :gameTitle, :centerSquare, " + INTERN_PHRASES + ")";
+
+    // A duplicate title inserts nothing and returns no row, rather than raising
+    // an error that a surrounding transaction could not recover from
+    private static final String INSERT_SHOW =
+            INSERT_FIELDS + " ON CONFLICT ON CONSTRAINT uk_shows_show_title DO NOTHING" + RETURNING;
+
+    private static final String DELETE_SHOW = "DELETE FROM tvbingo_schema.shows WHERE id = :id";
+
+    private static final String SELECT_TITLE_OWNERS =
+            "SELECT id, show_title FROM tvbingo_schema.shows WHERE show_title = ANY(:titles)";
+
+    private static final String SELECT_VERSIONS =
+            "SELECT id, version FROM tvbingo_schema.shows WHERE id = ANY(:ids)";
+
+    // In id order, so concurrent batches lock shared rows in the same order
+    private static final String LOCK_SHOWS =
+            "SELECT id, show_title, version FROM tvbingo_schema.shows WHERE id = ANY(:ids) ORDER BY id FOR UPDATE";
+
+    // Generated columns read back from each batched insert
+    private static final String[] GENERATED_COLUMNS = {"id", "version"};
+
+    private static final RowMapper<Show> SHOW_ROW_MAPPER = (rs, rowNum) -> ShowStreamRepository.mapShow(rs);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ShowWriteRepository(DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    /**
+     * Inserts a new show unless one with the same title already exists.
+     *
+     * @param show the show to insert; its id and version are ignored
+     * @return the inserted show with its generated id and version, or empty if
+     *     the title is already taken
+     */
+    public Optional<Show> insert(Show show) {
+        return jdbcTemplate.query(INSERT_SHOW, fieldParams(show), SHOW_ROW_MAPPER).stream().findFirst();
+    }
+
+    /**
+     * Overwrites a show's fields if it still has the expected version.
+     *
+     * @param show the new field values; {@code version} is the version the caller
+     *             last read, or null to update regardless of version
+     * @return the updated show with its new version, or empty if no show has that
+     *     id, or it has a different version
+     */
+    public Optional<Show> update(Show show) {
+        MapSqlParameterSource params = fieldParams(show)
+                .addValue("id", show.getId())
+                .addValue("version", show.getVersion(), Types.BIGINT);
+        return jdbcTemplate.query(UPDATE_SHOW, params, SHOW_ROW_MAPPER).stream().findFirst();
+    }
+
+    /**
+     * Deletes a show without loading it first.
+     *
+     * @param id the ID of the show to delete
+     * @return true if a show was deleted, false if none had that id
+     */
+    public boolean delete(Long id) {
+        return jdbcTemplate.update(DELETE_SHOW, new MapSqlParameterSource("id", id)) > 0;
+    }
+
+    /**
+     * Looks up which of the given titles are already taken, in one query.
+     *
+     * @param titles the titles to check
+     * @return the id of the show holding each taken title, keyed by title
+     */
+    public Map<String, Long> findTitleOwners(Collection<String> titles) {
+        Map<String, Long> owners = new HashMap<>();
+        if (titles.isEmpty()) {
+            return owners;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("titles", titles.toArray(String[]::new));
+        jdbcTemplate.query(SELECT_TITLE_OWNERS, params,
+                (RowCallbackHandler) rs -> owners.put(rs.getString("show_title"), rs.getLong("id")));
+        return owners;
+    }
+
+    /**
+     * Looks up the current version of each of the given shows, in one query.
+     *
+     * @param ids the IDs of the shows
+     * @return the version of each show that exists, keyed by id
+     */
+    public Map<Long, Long> findVersions(Collection<Long> ids) {
+        Map<Long, Long> versions = new HashMap<>();
+        if (ids.isEmpty()) {
+            return versions;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids.toArray(Long[]::new));
+        jdbcTemplate.query(SELECT_VERSIONS, params,
+                (RowCallbackHandler) rs -> versions.put(rs.getLong("id"), rs.getLong("version")));
+        return versions;
+    }
+
+    /**
+     * Locks the given shows until the end of the current transaction and reads
+     * their title and version, in one query.
+     *
+     * @param ids the IDs of the shows
+     * @return each existing show with only its id, title and version set, keyed by id
+     */
+    public Map<Long, Show> lockForUpdate(Collection<Long> ids) {
+        Map<Long, Show> shows = new HashMap<>();
+        if (ids.isEmpty()) {
+            return shows;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids.toArray(Long[]::new));
+        jdbcTemplate.query(LOCK_SHOWS, params, (RowCallbackHandler) rs -> shows.put(rs.getLong("id"), Show.builder()
+                .id(rs.getLong("id"))
+                .showTitle(rs.getString("show_title"))
+                .version(rs.getLong("version"))
+                .build()));
+        return shows;
+    }
+
+    /**
+     * Inserts shows as one JDBC batch. Unlike {@link #insert}, a duplicate title
+     * fails the whole batch, so callers should screen titles first with
+     * {@link #findTitleOwners}.
+     *
+     * @param shows the shows to insert; each gets its generated id and version set
+     */
+    public void insertAll(List<Show> shows) {
+        if (shows.isEmpty()) {
+            return;
+        }
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_FIELDS, shows.stream()
+                .map(ShowWriteRepository::fieldParams)
+                .toArray(SqlParameterSource[]::new), keys, GENERATED_COLUMNS);
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < shows.size(); i++) {
+            shows.get(i).setId(((Number) generated.get(i).get("id")).longValue());
+            shows.get(i).setVersion(((Number) generated.get(i).get("version")).longValue());
+        }
+    }
+
+    /**
+     * Applies {@link #update} to each show as one JDBC batch, without reading
+     * the rows back.
+     *
+     * @param shows the shows to update
+     * @return the number of rows updated for each show, 0 if it is missing or stale
+     */
+    public int[] updateAll(List<Show> shows) {
+        if (shows.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(UPDATE_FIELDS, shows.stream()
+                .map(show -> fieldParams(show)
+                        .addValue("id", show.getId())
+                        .addValue("version", show.getVersion(), Types.BIGINT))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    /**
+     * Deletes shows as one JDBC batch.
+     *
+     * @param ids the IDs of the shows to delete
+     * @return the number of rows deleted for each id, 0 if it did not exist
+     */
+    public int[] deleteAll(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(DELETE_SHOW, ids.stream()
+                .map(id -> new MapSqlParameterSource("id", id))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    static MapSqlParameterSource fieldParams(Show show) {
+        return new MapSqlParameterSource()
+                .addValue("showTitle", show.getShowTitle())
+                .addValue("gameTitle", show.getGameTitle())
+                .addValue("centerSquare", show.getCenterSquare())
+                .addValue("phrases", toArray(show.getPhrases()));
+    }
+
+    private static String[] toArray(List<String> phrases) {
+        return phrases != null ? phrases.toArray(String[]::new) : new String[0];
+    }
+}
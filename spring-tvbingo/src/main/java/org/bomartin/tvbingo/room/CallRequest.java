@@ -0,0 +1,10 @@
+package org.bomartin.tvbingo.room;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class CallRequest {
+    @NotBlank(message = "Phrase is required")
+    private String phrase;
+}
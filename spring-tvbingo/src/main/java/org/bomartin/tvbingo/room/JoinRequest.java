@@ -0,0 +1,10 @@
+package org.bomartin.tvbingo.room;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class JoinRequest {
+    @NotNull(message = "Game ID is required")
+    private Long gameId;
+}
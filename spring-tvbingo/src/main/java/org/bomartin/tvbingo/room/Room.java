@@ -0,0 +1,277 @@
+package org.bomartin.tvbingo.room;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A live multiplayer room for one show: the host calls phrases and every member
+ * is told as it happens. Rooms live in memory only.
+ *
+ * <p>Events are numbered and fanned out under the room's lock, which only ever
+ * enqueues (see {@link RoomSubscriber}), so a broadcast to thousands of members
+ * costs one serialisation plus one queue offer each and never waits on a socket.
+ *
+ * <p>The most recent events are kept in a ring buffer so a member that drops
+ * and reconnects with the id of the last event it saw is sent just the events it
+ * missed. If it missed more than the buffer (or its own queue) holds, it is sent
+ * a RESYNC event instead and should reload the room state.
+ *
+ * <p>A player joins with their game and is given a member key, much as the host
+ * is given the host key. Claims are made with that key, so a member can only
+ * ever claim the game it joined with, and each game can be joined once.
+ */
+public class Room {
+    private final Long id;
+    private final Long showId;
+    private final String hostKey;
+    private final Set<String> phrasePool;
+    private final ObjectWriter eventWriter;
+
+    // Guarded by this
+    private final Set<String> calledPhrases = new LinkedHashSet<>();
+    private final RoomMessage[] history;
+    private final Map<String, Long> memberGames = new HashMap<>();
+    private final Set<Long> joinedGames = new HashSet<>();
+    private final Map<Long, RoomEvent> claims = new HashMap<>();
+    private long lastEventId;
+    private boolean closed;
+
+    private final Set<RoomSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Last event, join or leave; see closeIfIdle
+    private volatile long lastActiveMillis = System.currentTimeMillis();
+
+    Room(Long id, Long showId, String hostKey, List<String> phrases, ObjectWriter eventWriter, int historySize) {
+        this.id = id;
+        this.showId = showId;
+        this.hostKey = hostKey;
+        this.phrasePool = Set.copyOf(phrases);
+        this.eventWriter = eventWriter;
+        this.history = new RoomMessage[historySize];
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getShowId() {
+        return showId;
+    }
+
+    boolean isHost(String key) {
+        return hostKey.equals(key);
+    }
+
+    String getHostKey() {
+        return hostKey;
+    }
+
+    boolean hasPhrase(String phrase) {
+        return phrasePool.contains(phrase);
+    }
+
+    public synchronized List<String> getCalledPhrases() {
+        return new ArrayList<>(calledPhrases);
+    }
+
+    public synchronized long getLastEventId() {
+        return lastEventId;
+    }
+
+    public int getMemberCount() {
+        return subscribers.size();
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Records a called phrase and broadcasts it.
+     *
+     * @param phrase the phrase, which must belong to the show
+     * @return the broadcast event
+     * @throws IllegalArgumentException if the phrase has already been called
+     * @throws IllegalStateException if the room is closed
+     */
+    synchronized RoomEvent callPhrase(String phrase) {
+        if (calledPhrases.contains(phrase)) {
+            throw new IllegalArgumentException("Phrase has already been called");
+        }
+        RoomEvent event = publish(RoomEvent.builder().type(RoomEvent.Type.PHRASE_CALLED).phrase(phrase));
+        calledPhrases.add(phrase);
+        return event;
+    }
+
+    /**
+     * Binds a player's game to a new member key.
+     *
+     * @param gameId the player's game, already checked to be for this room's show
+     * @return the member key needed to claim a bingo for the game
+     * @throws IllegalArgumentException if the game has already joined
+     * @throws IllegalStateException if the room is closed
+     */
+    synchronized String join(Long gameId) {
+        if (closed) {
+            throw new IllegalStateException("Room " + id + " is closed");
+        }
+        if (!joinedGames.add(gameId)) {
+            throw new IllegalArgumentException("Game has already joined this room");
+        }
+        String memberKey = UUID.randomUUID().toString();
+        memberGames.put(memberKey, gameId);
+        return memberKey;
+    }
+
+    /**
+     * Looks up the game a member joined with.
+     *
+     * @return the game, or empty if the key is unknown
+     */
+    synchronized Optional<Long> getMemberGame(String memberKey) {
+        return Optional.ofNullable(memberGames.get(memberKey));
+    }
+
+    /**
+     * Broadcasts a verified bingo. A game's bingo is announced once; claiming it
+     * again returns the original event without broadcasting anything.
+     *
+     * @param gameId the winning game
+     * @return the broadcast event
+     * @throws IllegalStateException if the room is closed
+     */
+    synchronized RoomEvent claimBingo(Long gameId) {
+        RoomEvent claimed = claims.get(gameId);
+        if (claimed != null) {
+            return claimed;
+        }
+        RoomEvent event = publish(RoomEvent.builder().type(RoomEvent.Type.BINGO_CLAIMED).gameId(gameId));
+        claims.put(gameId, event);
+        return event;
+    }
+
+    /**
+     * Tells every member the room is over and disconnects them once their
+     * queued events have been sent.
+     */
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+        publish(RoomEvent.builder().type(RoomEvent.Type.ROOM_CLOSED));
+        closed = true;
+        subscribers.forEach(RoomSubscriber::close);
+    }
+
+    /**
+     * Adds a member and starts delivering events to it.
+     *
+     * @return false if the room is already closed
+     */
+    synchronized boolean subscribe(RoomSubscriber subscriber) {
+        return subscribe(subscriber, null);
+    }
+
+    /**
+     * Adds a returning member, first sending it the events after the last one it
+     * saw. Replay and subscription happen under the room's lock, so the member
+     * gets every later event exactly once.
+     *
+     * @param subscriber the member
+     * @param lastEventId the id of the last event the member received, or null for a new member
+     * @return false if the room is already closed
+     */
+    synchronized boolean subscribe(RoomSubscriber subscriber, Long lastEventId) {
+        if (closed) {
+            return false;
+        }
+        subscribers.add(subscriber);
+        lastActiveMillis = System.currentTimeMillis();
+        subscriber.start(this);
+        if (lastEventId != null && lastEventId != this.lastEventId) {
+            long missed = this.lastEventId - lastEventId;
+            if (missed < 0 || missed > history.length || missed > subscriber.capacity()) {
+                subscriber.offer(serialise(RoomEvent.builder()
+                        .id(this.lastEventId)
+                        .type(RoomEvent.Type.RESYNC)
+                        .createdAt(Instant.now())
+                        .build()));
+            } else {
+                for (long eventId = lastEventId + 1; eventId <= this.lastEventId; eventId++) {
+                    subscriber.offer(history[slot(eventId)]);
+                }
+            }
+        }
+        return true;
+    }
+
+    void unsubscribe(RoomSubscriber subscriber) {
+        subscribers.remove(subscriber);
+        lastActiveMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Closes the room if it has had no members and no events for
+     * {@code idleMillis}. Checked under the room's lock, so a member joining
+     * concurrently either keeps the room open or is told it closed.
+     *
+     * @return true if the room is closed, whether now or earlier
+     */
+    synchronized boolean closeIfIdle(long now, long idleMillis) {
+        if (!closed && (!subscribers.isEmpty() || now - lastActiveMillis < idleMillis)) {
+            return false;
+        }
+        close();
+        return true;
+    }
+
+    /**
+     * Queues a heartbeat for every member that has been sent nothing for
+     * {@code idleMillis}.
+     */
+    synchronized void heartbeat(long idleMillis) {
+        long now = System.currentTimeMillis();
+        for (RoomSubscriber subscriber : subscribers) {
+            subscriber.offerHeartbeat(now, idleMillis);
+        }
+    }
+
+    // Caller holds the lock
+    private RoomEvent publish(RoomEvent.RoomEventBuilder builder) {
+        if (closed) {
+            throw new IllegalStateException("Room " + id + " is closed");
+        }
+        RoomEvent event = builder.id(lastEventId + 1).createdAt(Instant.now()).build();
+        RoomMessage message = serialise(event);
+        lastEventId = event.getId();
+        lastActiveMillis = System.currentTimeMillis();
+        history[slot(lastEventId)] = message;
+        for (RoomSubscriber subscriber : subscribers) {
+            subscriber.offer(message);
+        }
+        return event;
+    }
+
+    private RoomMessage serialise(RoomEvent event) {
+        try {
+            return new RoomMessage(event, eventWriter.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise room event", e);
+        }
+    }
+
+    private int slot(long eventId) {
+        return (int) (eventId % history.length);
+    }
+}
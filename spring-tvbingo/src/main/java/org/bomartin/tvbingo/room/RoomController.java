@@ -0,0 +1,241 @@
+package org.bomartin.tvbingo.room;
+
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * REST controller for multiplayer rooms. The host drives the room over HTTP
+ * and players join with their game to claim bingos. Members receive its events
+ * over the WebSocket at {@code /ws/rooms/{id}}, or as Server-Sent Events from
+ * {@code /api/rooms/{id}/events} where WebSockets are blocked.
+ */
+@RestController
+@RequestMapping("/api/rooms")
+public class RoomController {
+    static final String HOST_KEY_HEADER = "X-Host-Key";
+    static final String MEMBER_KEY_HEADER = "X-Member-Key";
+    private static final String ROOM_NOT_FOUND_MSG = "Room not found with id: ";
+
+    // Browsers wait this long, plus jitter, before reconnecting an event stream,
+    // so a network blip does not bring every member back at the same instant
+    private static final long RECONNECT_BASE_MILLIS = 1000;
+    private static final long RECONNECT_JITTER_MILLIS = 4000;
+
+    private final RoomService roomService;
+    private final int bufferSize;
+    private final long streamTimeoutMillis;
+
+    @Autowired
+    public RoomController(RoomService roomService,
+                          @Value("${tvbingo.rooms.subscriber-buffer:256}") int bufferSize,
+                          @Value("${tvbingo.rooms.sse-timeout-ms:1800000}") long streamTimeoutMillis) {
+        this.roomService = roomService;
+        this.bufferSize = bufferSize;
+        this.streamTimeoutMillis = streamTimeoutMillis;
+    }
+
+    /**
+     * Opens a room for a show.
+     *
+     * @param request the show to play
+     * @return the room, including the host key needed to call phrases
+     * @throws ResponseStatusException if the show is not found
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public RoomView createRoom(@Valid @RequestBody RoomRequest request) {
+        Room room = roomService.createRoom(request.getShowId())
+                .orElseThrow(() -> new ResponseStatusException(
+                    HttpStatus.NOT_FOUND, "Show not found with id: " + request.getShowId()));
+        RoomView view = RoomView.of(room);
+        view.setHostKey(room.getHostKey());
+        return view;
+    }
+
+    /**
+     * Retrieves a room's current state, e.g. after a member reconnects.
+     *
+     * @param id the ID of the room
+     * @return the room's state
+     * @throws ResponseStatusException if the room is not found
+     */
+    @GetMapping("/{id}")
+    public RoomView getRoom(@PathVariable Long id) {
+        return RoomView.of(findRoom(id));
+    }
+
+    /**
+     * Streams a room's events as Server-Sent Events, for clients that cannot use
+     * the WebSocket. Each event's SSE id is its room event id, so a reconnecting
+     * EventSource sends {@code Last-Event-ID} and is replayed only what it missed.
+     *
+     * @param id the ID of the room
+     * @param lastEventIdHeader the id of the last event received, sent by EventSource on reconnect
+     * @param lastEventId the same, for a first connection made after loading the room state
+     * @return the event stream
+     * @throws ResponseStatusException if the room is not found
+     */
+    @GetMapping(path = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@PathVariable Long id,
+                                   @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader,
+                                   @RequestParam(required = false) Long lastEventId) throws IOException {
+        Room room = findRoom(id);
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        EmitterSubscriber subscriber = new EmitterSubscriber(emitter, bufferSize);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        // Sent first, before any replayed event
+        emitter.send(SseEmitter.event()
+                .comment("connected")
+                .reconnectTime(RECONNECT_BASE_MILLIS + ThreadLocalRandom.current().nextLong(RECONNECT_JITTER_MILLIS)));
+        if (!room.subscribe(subscriber, lastEventIdHeader != null ? lastEventIdHeader : lastEventId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ROOM_NOT_FOUND_MSG + id);
+        }
+        return emitter;
+    }
+
+    /**
+     * Calls a phrase and pushes it to every member.
+     *
+     * @param id the ID of the room
+     * @param hostKey the key returned when the room was created
+     * @param request the phrase to call
+     * @return the broadcast event
+     * @throws ResponseStatusException if the room is not found or the key is wrong
+     */
+    @PostMapping("/{id}/calls")
+    public RoomEvent callPhrase(@PathVariable Long id,
+                                @RequestHeader(value = HOST_KEY_HEADER, required = false) String hostKey,
+                                @Valid @RequestBody CallRequest request) {
+        return roomService.callPhrase(findRoomAsHost(id, hostKey), request.getPhrase());
+    }
+
+    /**
+     * Joins a player's game to a room. The returned member key is what the
+     * player claims a bingo with, so a claim can only ever be for this game.
+     *
+     * @param id the ID of the room
+     * @param request the player's game
+     * @return the room's state, including the member key
+     * @throws ResponseStatusException if the room or game is not found
+     */
+    @PostMapping("/{id}/members")
+    @ResponseStatus(HttpStatus.CREATED)
+    public RoomView joinRoom(@PathVariable Long id, @Valid @RequestBody JoinRequest request) {
+        Room room = findRoom(id);
+        String memberKey = roomService.joinRoom(room, request.getGameId())
+                .orElseThrow(() -> gameNotFound(request.getGameId()));
+        RoomView view = RoomView.of(room);
+        view.setMemberKey(memberKey);
+        return view;
+    }
+
+    /**
+     * Claims a bingo for the game the member joined with. The claim is checked
+     * against the phrases called so far before it is announced; claiming again
+     * returns the same event without announcing it twice.
+     *
+     * @param id the ID of the room
+     * @param memberKey the key returned when the game joined
+     * @return the broadcast event
+     * @throws ResponseStatusException if the room or game is not found or the key is wrong
+     */
+    @PostMapping("/{id}/claims")
+    public RoomEvent claimBingo(@PathVariable Long id,
+                                @RequestHeader(value = MEMBER_KEY_HEADER, required = false) String memberKey) {
+        Room room = findRoom(id);
+        Long gameId = findMemberGame(room, memberKey);
+        return roomService.claimBingo(room, gameId)
+                .orElseThrow(() -> gameNotFound(gameId));
+    }
+
+    /**
+     * Closes a room and disconnects its members.
+     *
+     * @param id the ID of the room
+     * @param hostKey the key returned when the room was created
+     * @throws ResponseStatusException if the room is not found or the key is wrong
+     */
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void closeRoom(@PathVariable Long id,
+                          @RequestHeader(value = HOST_KEY_HEADER, required = false) String hostKey) {
+        roomService.closeRoom(findRoomAsHost(id, hostKey));
+    }
+
+    private Room findRoom(Long id) {
+        return roomService.getRoom(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, ROOM_NOT_FOUND_MSG + id));
+    }
+
+    private static ResponseStatusException gameNotFound(Long gameId) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "Game not found with id: " + gameId);
+    }
+
+    private Room findRoomAsHost(Long id, String hostKey) {
+        Room room = findRoom(id);
+        if (hostKey == null || !room.isHost(hostKey)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only the host can do this");
+        }
+        return room;
+    }
+
+    private static Long findMemberGame(Room room, String memberKey) {
+        return Optional.ofNullable(memberKey).flatMap(room::getMemberGame)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "Only a member can do this"));
+    }
+
+    private static final class EmitterSubscriber extends RoomSubscriber {
+        private final SseEmitter emitter;
+
+        private EmitterSubscriber(SseEmitter emitter, int capacity) {
+            super(capacity);
+            this.emitter = emitter;
+        }
+
+        @Override
+        protected void write(RoomMessage message) throws IOException {
+            send(SseEmitter.event().id(String.valueOf(message.event().getId())).data(message.json()));
+        }
+
+        @Override
+        protected void writeHeartbeat() throws IOException {
+            send(SseEmitter.event().comment("heartbeat"));
+        }
+
+        @Override
+        protected void disconnect() {
+            emitter.complete();
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            try {
+                emitter.send(event);
+            } catch (IllegalStateException e) {
+                // The emitter already completed, e.g. on timeout
+                throw new IOException(e);
+            }
+        }
+    }
+}
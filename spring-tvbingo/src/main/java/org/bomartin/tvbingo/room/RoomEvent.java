@@ -0,0 +1,38 @@
+package org.bomartin.tvbingo.room;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Something that happened in a room, pushed to every member. Ids increase by one
+ * per event within a room, so a client can tell whether it missed any.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoomEvent {
+    private long id;
+    private Type type;
+
+    // Set for PHRASE_CALLED
+    private String phrase;
+
+    // Set for BINGO_CLAIMED
+    private Long gameId;
+
+    private Instant createdAt;
+
+    public enum Type {
+        PHRASE_CALLED,
+        BINGO_CLAIMED,
+        ROOM_CLOSED,
+        // Sent to a reconnecting member that missed too much to replay; it should
+        // reload the room state. Carries the room's current event id.
+        RESYNC
+    }
+}
@@ -0,0 +1,11 @@
+package org.bomartin.tvbingo.room;
+
+/**
+ * An event together with its JSON form. Events are serialised once per
+ * broadcast, not once per subscriber.
+ *
+ * @param event the event
+ * @param json the event as JSON
+ */
+public record RoomMessage(RoomEvent event, String json) {
+}
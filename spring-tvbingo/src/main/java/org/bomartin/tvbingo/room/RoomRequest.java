@@ -0,0 +1,10 @@
+package org.bomartin.tvbingo.room;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class RoomRequest {
+    @NotNull(message = "Show ID is required")
+    private Long showId;
+}
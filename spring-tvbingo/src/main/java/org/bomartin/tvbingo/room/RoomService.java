@@ -0,0 +1,173 @@
+package org.bomartin.tvbingo.room;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.bomartin.tvbingo.game.Game;
+import org.bomartin.tvbingo.game.GameService;
+import org.bomartin.tvbingo.game.WinDetector;
+import org.bomartin.tvbingo.service.ShowService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates and runs multiplayer rooms. Rooms are held in memory, so like
+ * GameStateStore this assumes a single application instance.
+ */
+@Service
+public class RoomService {
+    private static final String GAME_NOT_FOR_SHOW_MSG = "Game is not for this room's show";
+
+    private final ConcurrentHashMap<Long, Room> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong nextRoomId = new AtomicLong();
+    private final ShowService showService;
+    private final GameService gameService;
+    private final ObjectWriter eventWriter;
+    private final int replayBuffer;
+    private final long heartbeatIntervalMillis;
+    private final long idleTimeoutMillis;
+
+    @Autowired
+    public RoomService(ShowService showService, GameService gameService, ObjectMapper objectMapper,
+                       @Value("${tvbingo.rooms.replay-buffer:1024}") int replayBuffer,
+                       @Value("${tvbingo.rooms.heartbeat-interval-ms:15000}") long heartbeatIntervalMillis,
+                       @Value("${tvbingo.rooms.idle-timeout-ms:1800000}") long idleTimeoutMillis) {
+        this.showService = showService;
+        this.gameService = gameService;
+        this.eventWriter = objectMapper.writerFor(RoomEvent.class);
+        this.replayBuffer = replayBuffer;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    /**
+     * Opens a room for a show. The returned room's host key is needed to call
+     * phrases and to close the room.
+     *
+     * @param showId the show to play
+     * @return the new room, or empty if the show does not exist
+     */
+    public Optional<Room> createRoom(Long showId) {
+        return showService.getShow(showId).map(show -> {
+            Long id = nextRoomId.incrementAndGet();
+            Room room = new Room(id, show.getId(), UUID.randomUUID().toString(), show.getPhrases(), eventWriter,
+                    replayBuffer);
+            rooms.put(id, room);
+            return room;
+        });
+    }
+
+    public Optional<Room> getRoom(Long id) {
+        return Optional.ofNullable(rooms.get(id));
+    }
+
+    /**
+     * Calls a phrase and pushes it to every member.
+     *
+     * @param room the room
+     * @param phrase the phrase called
+     * @return the broadcast event
+     * @throws IllegalArgumentException if the phrase is not one of the show's or was already called
+     */
+    public RoomEvent callPhrase(Room room, String phrase) {
+        if (!room.hasPhrase(phrase)) {
+            throw new IllegalArgumentException("Phrase is not in this show");
+        }
+        return room.callPhrase(phrase);
+    }
+
+    /**
+     * Joins a player's game to a room.
+     *
+     * @param room the room
+     * @param gameId the player's game
+     * @return the member key to claim with, or empty if the game does not exist
+     * @throws IllegalArgumentException if the game is for another show or has already joined
+     */
+    public Optional<String> joinRoom(Room room, Long gameId) {
+        return gameService.getGame(gameId).map(game -> {
+            if (!room.getShowId().equals(game.getShowId())) {
+                throw new IllegalArgumentException(GAME_NOT_FOR_SHOW_MSG);
+            }
+            return room.join(gameId);
+        });
+    }
+
+    /**
+     * Checks a player's bingo against the phrases called so far and, if it holds,
+     * announces it to the room. Marked cells whose phrase has not been called do
+     * not count. A game that has already won gets back its original event and
+     * nothing is broadcast again.
+     *
+     * @param room the room
+     * @param gameId the game the claiming member joined with
+     * @return the broadcast event, or empty if the game does not exist
+     * @throws IllegalArgumentException if the game is for another show or is not a bingo
+     */
+    public Optional<RoomEvent> claimBingo(Room room, Long gameId) {
+        return gameService.getGame(gameId).map(game -> {
+            if (!room.getShowId().equals(game.getShowId())) {
+                throw new IllegalArgumentException(GAME_NOT_FOR_SHOW_MSG);
+            }
+            int confirmed = game.getMarked() & calledCells(game, room.getCalledPhrases());
+            if (!WinDetector.hasWon(confirmed, game.getPattern())) {
+                throw new IllegalArgumentException("Claim is not a bingo");
+            }
+            return room.claimBingo(gameId);
+        });
+    }
+
+    /**
+     * Closes a room and disconnects its members.
+     *
+     * @param room the room
+     */
+    public void closeRoom(Room room) {
+        rooms.remove(room.getId(), room);
+        room.close();
+    }
+
+    /**
+     * Keeps idle connections alive through proxies. One pass covers every member
+     * of every room, and members that were sent anything during the last interval
+     * are skipped, so heartbeats cost nothing while a room is busy.
+     *
+     * <p>The same pass closes and forgets rooms that have had no members and no
+     * events for the idle timeout, such as rooms the host abandoned or whose
+     * show was deleted, so their replay buffers do not accumulate.
+     */
+    @Scheduled(fixedDelayString = "${tvbingo.rooms.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        long now = System.currentTimeMillis();
+        rooms.values().forEach(room -> {
+            if (room.closeIfIdle(now, idleTimeoutMillis)) {
+                rooms.remove(room.getId(), room);
+            } else {
+                room.heartbeat(heartbeatIntervalMillis);
+            }
+        });
+    }
+
+    // Bitmask of the game's cells whose phrase has been called; the center is free
+    static int calledCells(Game game, List<String> calledPhrases) {
+        Set<String> called = new HashSet<>(calledPhrases);
+        List<String> phrases = game.getPhrases();
+        int cells = 1 << WinDetector.CENTER;
+        for (int i = 0; i < phrases.size(); i++) {
+            if (called.contains(phrases.get(i))) {
+                int cell = i < WinDetector.CENTER ? i : i + 1;
+                cells |= 1 << cell;
+            }
+        }
+        return cells;
+    }
+}
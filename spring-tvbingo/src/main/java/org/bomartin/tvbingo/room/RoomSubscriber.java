@@ -0,0 +1,135 @@
+package org.bomartin.tvbingo.room;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One connection listening to a room.
+ *
+ * <p>Broadcasts only enqueue: each subscriber has a bounded queue that a virtual
+ * thread of its own drains onto the connection, so a slow client delays nobody
+ * but itself. A subscriber whose queue fills up is disconnected rather than
+ * allowed to grow without bound; it can reconnect and reload the room state.
+ */
+public abstract class RoomSubscriber {
+    private static final Logger log = LoggerFactory.getLogger(RoomSubscriber.class);
+
+    private static final RoomMessage STOP = new RoomMessage(null, null);
+    private static final RoomMessage HEARTBEAT = new RoomMessage(null, null);
+
+    private final int capacity;
+    private final BlockingQueue<RoomMessage> queue;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile long lastSentAt = System.currentTimeMillis();
+    private Room room;
+
+    protected RoomSubscriber(int capacity) {
+        this.capacity = capacity;
+        // One spare slot so STOP always fits
+        this.queue = new ArrayBlockingQueue<>(capacity + 1);
+    }
+
+    /**
+     * Writes one message to the connection. Called from the subscriber's own
+     * thread only, one message at a time.
+     *
+     * @param message the message to send
+     * @throws IOException if the connection is broken
+     */
+    protected abstract void write(RoomMessage message) throws IOException;
+
+    /**
+     * Sends a keep-alive that clients ignore, so proxies do not time out an idle
+     * connection. Called from the subscriber's own thread only.
+     *
+     * @throws IOException if the connection is broken
+     */
+    protected abstract void writeHeartbeat() throws IOException;
+
+    /**
+     * Closes the underlying connection. Called once, from the subscriber's own thread.
+     */
+    protected abstract void disconnect();
+
+    void start(Room room) {
+        this.room = room;
+        Thread.ofVirtual().name("room-" + room.getId() + "-subscriber").start(this::drain);
+    }
+
+    /**
+     * Queues a message without blocking. Rooms call this while holding their
+     * lock, so messages reach each subscriber in event order.
+     *
+     * @return false if the subscriber is closed or its queue is full; a full
+     *     queue closes the subscriber
+     */
+    boolean offer(RoomMessage message) {
+        if (closed.get()) {
+            return false;
+        }
+        if (queue.size() < capacity && queue.offer(message)) {
+            return true;
+        }
+        log.debug("Disconnecting slow subscriber from room {}", room.getId());
+        close();
+        return false;
+    }
+
+    /**
+     * Queues a heartbeat if nothing has been sent for {@code idleMillis} and
+     * nothing is waiting to be sent. Heartbeats are never queued behind events or
+     * each other, so a busy or stalled connection costs no extra work.
+     */
+    void offerHeartbeat(long now, long idleMillis) {
+        if (!closed.get() && queue.isEmpty() && now - lastSentAt >= idleMillis) {
+            queue.offer(HEARTBEAT);
+        }
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Stops the subscriber once the messages already queued have been written.
+     */
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            queue.offer(STOP);
+        }
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                RoomMessage message = queue.take();
+                if (message == STOP) {
+                    break;
+                }
+                if (message == HEARTBEAT) {
+                    writeHeartbeat();
+                } else {
+                    write(message);
+                }
+                lastSentAt = System.currentTimeMillis();
+            }
+        } catch (IOException e) {
+            log.debug("Subscriber of room {} went away", room.getId(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closed.set(true);
+            room.unsubscribe(this);
+            disconnect();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.bomartin.tvbingo.room;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A room's current state, for clients joining or reconnecting. {@code lastEventId}
+ * is the id of the newest event included in this state.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoomView {
+    private Long id;
+    private Long showId;
+    private List<String> calledPhrases;
+    private long lastEventId;
+    private int memberCount;
+
+    // Only returned to the host, when the room is created
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String hostKey;
+
+    // Only returned to a member, when its game joins
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String memberKey;
+
+    static RoomView of(Room room) {
+        // Hold the room's lock so the phrases and event id agree
+        synchronized (room) {
+            return RoomView.builder()
+                    .id(room.getId())
+                    .showId(room.getShowId())
+                    .calledPhrases(room.getCalledPhrases())
+                    .lastEventId(room.getLastEventId())
+                    .memberCount(room.getMemberCount())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.bomartin.tvbingo.room;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Pushes a room's events to members connected at {@code /ws/rooms/{id}}. The
+ * socket is one-way: members act through the REST API and anything they send
+ * here is ignored. A reconnecting member passes {@code ?lastEventId=} to be sent
+ * only the events it missed.
+ */
+@Component
+public class RoomWebSocketHandler extends TextWebSocketHandler {
+    /** Close code for a room that does not exist or has closed. */
+    static final CloseStatus ROOM_NOT_FOUND = new CloseStatus(4404, "Room not found");
+
+    private static final String SUBSCRIBER_ATTRIBUTE = "roomSubscriber";
+
+    private final RoomService roomService;
+    private final int bufferSize;
+
+    @Autowired
+    public RoomWebSocketHandler(RoomService roomService,
+                                @Value("${tvbingo.rooms.subscriber-buffer:256}") int bufferSize) {
+        this.roomService = roomService;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws IOException {
+        Optional<Room> room = roomId(session).flatMap(roomService::getRoom);
+        SessionSubscriber subscriber = new SessionSubscriber(session, bufferSize);
+        if (room.isEmpty() || !room.get().subscribe(subscriber, lastEventId(session))) {
+            session.close(ROOM_NOT_FOUND);
+            return;
+        }
+        session.getAttributes().put(SUBSCRIBER_ATTRIBUTE, subscriber);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        if (session.getAttributes().get(SUBSCRIBER_ATTRIBUTE) instanceof SessionSubscriber subscriber) {
+            subscriber.close();
+        }
+    }
+
+    private static Optional<Long> roomId(WebSocketSession session) {
+        if (session.getUri() == null) {
+            return Optional.empty();
+        }
+        String path = session.getUri().getPath();
+        try {
+            return Optional.of(Long.valueOf(path.substring(path.lastIndexOf('/') + 1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Long lastEventId(WebSocketSession session) {
+        if (session.getUri() == null) {
+            return null;
+        }
+        String value = UriComponentsBuilder.fromUri(session.getUri()).build()
+                .getQueryParams().getFirst("lastEventId");
+        try {
+            return value != null ? Long.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static final class SessionSubscriber extends RoomSubscriber {
+        private final WebSocketSession session;
+
+        private SessionSubscriber(WebSocketSession session, int capacity) {
+            super(capacity);
+            this.session = session;
+        }
+
+        @Override
+        protected void write(RoomMessage message) throws IOException {
+            session.sendMessage(new TextMessage(message.json()));
+        }
+
+        @Override
+        protected void writeHeartbeat() throws IOException {
+            session.sendMessage(new PingMessage());
+        }
+
+        @Override
+        protected void disconnect() {
+            try {
+                session.close(CloseStatus.GOING_AWAY);
+            } catch (IOException e) {
+                // Already gone
+            }
+        }
+    }
+}
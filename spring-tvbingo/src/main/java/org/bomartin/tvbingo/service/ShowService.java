@@ -1,54 +1,332 @@
 package org.bomartin.tvbingo.service;
 
+import io.micrometer.core.annotation.Timed;
+import org.bomartin.tvbingo.config.CacheConfig;
+import org.bomartin.tvbingo.dto.ShowBatchResult;
+import org.bomartin.tvbingo.dto.ShowBatchResult.Item;
+import org.bomartin.tvbingo.dto.ShowBatchResult.Status;
+import org.bomartin.tvbingo.dto.ShowSearchHit;
+import org.bomartin.tvbingo.dto.ShowSuggestion;
+import org.bomartin.tvbingo.dto.ShowSummary;
+import org.bomartin.tvbingo.dto.ShowVersion;
 import org.bomartin.tvbingo.model.Show;
 import org.bomartin.tvbingo.repository.ShowRepository;
+import org.bomartin.tvbingo.repository.ShowStreamRepository;
+import org.bomartin.tvbingo.repository.ShowWriteRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Service
+@Timed(value = "tvbingo.shows.service", histogram = true,
+       description = "Time spent in ShowService methods, tagged by method")
 public class ShowService {
     private final ShowRepository showRepository;
+    private final ShowStreamRepository showStreamRepository;
+    private final ShowWriteRepository showWriteRepository;
+    private final ShowTitleIndex showTitleIndex;
     
     @Autowired
-    public ShowService(ShowRepository showRepository) {
+    public ShowService(ShowRepository showRepository, ShowStreamRepository showStreamRepository,
+                       ShowWriteRepository showWriteRepository, ShowTitleIndex showTitleIndex) {
         this.showRepository = showRepository;
+        this.showStreamRepository = showStreamRepository;
+        this.showWriteRepository = showWriteRepository;
+        this.showTitleIndex = showTitleIndex;
     }
     
+    /**
+     * Inserts a show in a single statement. Title uniqueness is checked by the
+     * uk_shows_show_title constraint as part of the insert, so concurrent
+     * creates with the same title cannot both succeed.
+     *
+     * @param show the show to create
+     * @return the created show with its generated id and version
+     * @throws IllegalArgumentException if a show with the same title exists
+     */
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.SHOW_VERSIONS_CACHE, key = "'list'"),
+        @CacheEvict(cacheNames = CacheConfig.SHOW_LISTS_CACHE, allEntries = true)
+    })
     public Show createShow(Show show) {
-        // Check if a show with the same title already exists
-        if (showRepository.existsByShowTitle(show.getShowTitle())) {
-            throw new IllegalArgumentException("Show title must be unique");
-        }
-        return showRepository.save(show);
+        Show created = showWriteRepository.insert(show)
+                .orElseThrow(() -> new IllegalArgumentException("Show title must be unique"));
+        afterCommit(() -> showTitleIndex.put(created.getId(), created.getShowTitle()));
+        return created;
     }
     
+    @Cacheable(cacheNames = CacheConfig.SHOWS_CACHE, unless = "#result == null")
     public Optional<Show> getShow(Long id) {
         return showRepository.findById(id);
     }
     
-    public List<Show> getAllShows() {
-        return StreamSupport.stream(showRepository.findAll().spliterator(), false)
-                .toList();
+    /**
+     * Looks up a show's version without loading it, to answer conditional GETs.
+     *
+     * @param id the ID of the show
+     * @return the show's ETag value and last-modified time, or empty if it does not exist
+     */
+    @Cacheable(cacheNames = CacheConfig.SHOW_VERSIONS_CACHE, unless = "#result == null")
+    public Optional<ShowVersion> getShowVersion(Long id) {
+        return showRepository.findVersionById(id);
+    }
+
+    /**
+     * Looks up a version of the whole show list that changes on any insert,
+     * update or delete, to answer conditional GETs of the list.
+     *
+     * @return the list's ETag value and last-modified time
+     */
+    @Cacheable(cacheNames = CacheConfig.SHOW_VERSIONS_CACHE, key = "'list'")
+    public ShowVersion getShowListVersion() {
+        return showRepository.findListVersion();
+    }
+
+    /**
+     * Finds shows whose titles or phrases match a query, best matches first.
+     * Words are matched after stemming ("pranks" finds "prank"), and titles and
+     * phrases also match when they are merely similar, so typos still hit.
+     *
+     * @param query free text; quoted phrases, {@code or} and {@code -word} are supported
+     * @param limit maximum number of results
+     * @param offset number of results to skip
+     * @return matching shows ordered by rank, then id
+     */
+    public List<ShowSearchHit> searchShows(String query, int limit, int offset) {
+        return showRepository.search(query, limit, offset);
+    }
+
+    /**
+     * Suggests show titles for what a user has typed so far, from memory.
+     *
+     * @param prefix the typed text
+     * @param limit maximum number of suggestions
+     * @return titles starting with the prefix, or with a word that does
+     */
+    public List<ShowSuggestion> suggestTitles(String prefix, int limit) {
+        return showTitleIndex.suggest(prefix, limit);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.SHOW_LISTS_CACHE, key = "'summaries'")
+    public List<ShowSummary> getShowSummaries() {
+        return showRepository.findAllSummaries();
+    }
+
+    /**
+     * Streams shows in id order, one at a time, without materialising the result.
+     * Runs in a read-only transaction so the JDBC driver honours the fetch size
+     * and reads the result set through a server-side cursor.
+     *
+     * @param after exclusive id cursor, or null to start from the first show
+     * @param limit maximum number of shows, or null for all remaining shows
+     * @param action callback receiving each show
+     */
+    @Transactional(readOnly = true)
+    public void streamShows(Long after, Integer limit, Consumer<Show> action) {
+        showStreamRepository.forEachShow(after, limit, action);
     }
     
-    public Show updateShow(Show show) {
+    /**
+     * Overwrites a show in a single conditional UPDATE that only applies while
+     * the stored show still has {@code show.version}. Title uniqueness is left
+     * to the database constraint.
+     *
+     * @param show the show's new state, with the version the caller last read
+     * @return the updated show with its new version, or empty if it does not exist
+     * @throws IllegalArgumentException if the id or version is missing
+     * @throws OptimisticLockingFailureException if the show has a different version
+     */
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.SHOWS_CACHE, key = "#show.id"),
+        @CacheEvict(cacheNames = CacheConfig.SHOW_VERSIONS_CACHE, key = "#show.id"),
+        @CacheEvict(cacheNames = CacheConfig.SHOW_VERSIONS_CACHE, key = "'list'"),
+        @CacheEvict(cacheNames = CacheConfig.SHOW_LISTS_CACHE, allEntries = true)
+    })
+    public Optional<Show> updateShow(Show show) {
         if (show.getId() == null) {
             throw new IllegalArgumentException("Show ID must not be null for updates");
         }
-        
-        // Check if another show with the same title already exists (excluding current show)
-        if (showRepository.existsByShowTitleExceptId(show.getShowTitle(), show.getId())) {
-            throw new IllegalArgumentException("Show title must be unique");
+        if (show.getVersion() == null) {
+            throw new IllegalArgumentException("Show version must not be null for updates");
+        }
+
+        Optional<Show> updated = showWriteRepository.update(show);
+        // Only a failed conditional update costs a second query, to tell a
+        // missing show from a stale version
+        if (updated.isEmpty() && showRepository.findVersionById(show.getId()).isPresent()) {
+            throw new OptimisticLockingFailureException(
+                    "Show " + show.getId() + " is no longer at version " + show.getVersion());
+        }
+        updated.ifPresent(saved -> afterCommit(() -> showTitleIndex.put(saved.getId(), saved.getShowTitle())));
+        return updated;
+    }
+    
+    /**
+     * Deletes a show in a single statement.
+     *
+     * @param id the ID of the show to delete
+     * @return true if the show was deleted, false if it did not exist
+     */
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.SHOWS_CACHE, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.SHOW_VERSIONS_CACHE, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.SHOW_VERSIONS_CACHE, key = "'list'"),
+        @CacheEvict(cacheNames = CacheConfig.SHOW_LISTS_CACHE, allEntries = true)
+    })
+    public boolean deleteShow(Long id) {
+        boolean deleted = showWriteRepository.delete(id);
+        if (deleted) {
+            afterCommit(() -> showTitleIndex.remove(id));
         }
-        
-        return showRepository.save(show);
+        return deleted;
     }
     
-    public void deleteShow(Long id) {
-        showRepository.deleteById(id);
+    /**
+     * Applies a batch of writes in one transaction: deletes, then updates, then
+     * creates, each sent as a single JDBC batch. Title uniqueness for the whole
+     * batch is checked with one query after the deletes, so titles they free
+     * can be reused. Items are checked in order, and an update that renames a
+     * show frees its old title for the items after it.
+     *
+     * <p>Items that would break uniqueness, target a missing show or carry a
+     * stale version are skipped and reported; the rest are still applied.
+     *
+     * @param creates shows to insert
+     * @param updates shows to update, each with its id and the version last read
+     * @param deletes IDs of shows to delete
+     * @return one result per item, in request order
+     */
+    @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.SHOWS_CACHE, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.SHOW_VERSIONS_CACHE, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.SHOW_LISTS_CACHE, allEntries = true)
+    })
+    public ShowBatchResult applyBatch(List<Show> creates, List<Show> updates, List<Long> deletes) {
+        ShowBatchResult result = new ShowBatchResult();
+
+        int[] deleteCounts = showWriteRepository.deleteAll(deletes);
+        for (int i = 0; i < deletes.size(); i++) {
+            result.getDeleted().add(Item.of(deleteCounts[i] > 0 ? Status.DELETED : Status.NOT_FOUND, deletes.get(i)));
+        }
+
+        Set<String> titles = new HashSet<>();
+        updates.forEach(show -> titles.add(show.getShowTitle()));
+        creates.forEach(show -> titles.add(show.getShowTitle()));
+        // Title -> id of the show that will hold it; null for a pending create
+        Map<String, Long> claimed = new HashMap<>(showWriteRepository.findTitleOwners(titles));
+
+        // Locked until commit, so an update that passes the checks below applies
+        Map<Long, Show> stored = showWriteRepository.lockForUpdate(updates.stream().map(Show::getId).toList());
+
+        Item[] updateItems = new Item[updates.size()];
+        List<Show> toUpdate = new ArrayList<>();
+        List<Integer> toUpdateIndex = new ArrayList<>();
+        for (int i = 0; i < updates.size(); i++) {
+            Show show = updates.get(i);
+            Show current = stored.get(show.getId());
+            if (current == null) {
+                updateItems[i] = Item.of(Status.NOT_FOUND, show.getId());
+                continue;
+            }
+            if (!Objects.equals(show.getVersion(), current.getVersion())) {
+                updateItems[i] = Item.of(Status.STALE_VERSION, show.getId());
+                continue;
+            }
+            if (claimed.containsKey(show.getShowTitle())
+                    && !Objects.equals(claimed.get(show.getShowTitle()), show.getId())) {
+                updateItems[i] = Item.of(Status.DUPLICATE_TITLE, show.getId());
+                continue;
+            }
+            claimed.remove(current.getShowTitle(), show.getId());
+            claimed.put(show.getShowTitle(), show.getId());
+            toUpdate.add(show);
+            toUpdateIndex.add(i);
+        }
+
+        int[] updateCounts = showWriteRepository.updateAll(toUpdate);
+        // Rows this transaction updated stay locked, so their versions are ours
+        Map<Long, Long> versions = showWriteRepository.findVersions(toUpdate.stream().map(Show::getId).toList());
+        for (int j = 0; j < toUpdate.size(); j++) {
+            Long id = toUpdate.get(j).getId();
+            Item item;
+            if (updateCounts[j] > 0) {
+                item = new Item(Status.UPDATED, id, versions.get(id));
+            } else {
+                item = Item.of(versions.containsKey(id) ? Status.STALE_VERSION : Status.NOT_FOUND, id);
+            }
+            updateItems[toUpdateIndex.get(j)] = item;
+        }
+        result.getUpdated().addAll(Arrays.asList(updateItems));
+
+        Item[] createItems = new Item[creates.size()];
+        List<Show> toCreate = new ArrayList<>();
+        List<Integer> toCreateIndex = new ArrayList<>();
+        for (int i = 0; i < creates.size(); i++) {
+            Show show = creates.get(i);
+            if (claimed.containsKey(show.getShowTitle())) {
+                createItems[i] = Item.of(Status.DUPLICATE_TITLE, null);
+                continue;
+            }
+            claimed.put(show.getShowTitle(), null);
+            toCreate.add(show);
+            toCreateIndex.add(i);
+        }
+
+        showWriteRepository.insertAll(toCreate);
+        for (int j = 0; j < toCreate.size(); j++) {
+            Show show = toCreate.get(j);
+            createItems[toCreateIndex.get(j)] = new Item(Status.CREATED, show.getId(), show.getVersion());
+        }
+        result.getCreated().addAll(Arrays.asList(createItems));
+
+        Map<Long, String> written = new HashMap<>();
+        toUpdate.forEach(show -> written.put(show.getId(), show.getShowTitle()));
+        toCreate.forEach(show -> written.put(show.getId(), show.getShowTitle()));
+        result.getUpdated().stream()
+                .filter(item -> item.getStatus() != Status.UPDATED)
+                .forEach(item -> written.remove(item.getId()));
+        afterCommit(() -> {
+            showTitleIndex.removeAll(deletes);
+            showTitleIndex.putAll(written);
+        });
+
+        return result;
+    }
+
+    /**
+     * Runs an index change once the surrounding transaction commits, so
+     * suggestions never show a write that is rolled back or not yet visible to
+     * other connections. Outside a transaction the write has already
+     * committed, so the change runs straight away.
+     */
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
     }
-} 
\ No newline at end of file
+}
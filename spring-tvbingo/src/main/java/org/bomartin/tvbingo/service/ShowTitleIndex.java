@@ -0,0 +1,377 @@
+package org.bomartin.tvbingo.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bomartin.tvbingo.dto.ShowSuggestion;
+import org.bomartin.tvbingo.dto.ShowSummary;
+import org.bomartin.tvbingo.repository.ShowRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory prefix index over show titles for as-you-type suggestions, so
+ * suggestions never touch the database.
+ *
+ * <p>Each title is indexed under every word start ("The Office" under "the
+ * office" and "office"), normalised to lower case without accents. Readers
+ * search an immutable snapshot: title starts and later word starts in two
+ * sorted arrays, so a lookup is a binary search and a bounded scan that can
+ * take title-start matches first. Writes do not rebuild the arrays; they go
+ * into a small delta of changed titles that lookups check alongside the
+ * snapshot, and the delta is merged into a new snapshot once it reaches
+ * {@value #MAX_DELTA} shows. The snapshot and delta are swapped in together
+ * through a volatile field, so readers never lock.
+ *
+ * <p>ShowService keeps the index current for writes made through this
+ * instance. A periodic rebuild from the database picks up writes made by other
+ * instances or outside the application.
+ */
+@Component
+public class ShowTitleIndex {
+    private static final Logger log = LoggerFactory.getLogger(ShowTitleIndex.class);
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Prefix matches examined per lookup before ranking; bounds the cost of a
+    // one-letter prefix on a large catalogue
+    static final int MAX_CANDIDATES = 200;
+
+    // Changed shows kept beside the snapshot before it is rebuilt; every
+    // lookup scans them, so this stays small
+    static final int MAX_DELTA = 64;
+
+    private final ShowRepository showRepository;
+    private final Timer buildTimer;
+
+    // Current title of every indexed show; written under this
+    private final Map<Long, String> titles = new ConcurrentHashMap<>();
+    private volatile State state = State.EMPTY;
+    private volatile int keyCount;
+
+    // Shows written while a rebuild reads the database; their state here is
+    // newer than the rebuild's. Guarded by this, null when no rebuild runs
+    private Set<Long> writtenDuringRebuild;
+    private final Object rebuildLock = new Object();
+
+    /**
+     * Sorted keys with, for each key, the index of its show in {@code ids} and
+     * {@code titles}.
+     */
+    private record Keys(String[] texts, int[] owners) {
+        static final Keys EMPTY = new Keys(new String[0], new int[0]);
+    }
+
+    private record Snapshot(long[] ids, String[] titles, Keys titleStarts, Keys wordStarts) {
+        static final Snapshot EMPTY = new Snapshot(new long[0], new String[0], Keys.EMPTY, Keys.EMPTY);
+    }
+
+    /**
+     * A show changed since the snapshot was built: its new title, or a null
+     * title if it was removed.
+     */
+    private record Change(String title, String normalized) {
+        static final Change REMOVED = new Change(null, null);
+    }
+
+    /**
+     * What readers see. Shows in {@code delta} are looked up there only; the
+     * snapshot's keys for them are stale.
+     */
+    private record State(Snapshot snapshot, Map<Long, Change> delta) {
+        static final State EMPTY = new State(Snapshot.EMPTY, Map.of());
+    }
+
+    private record Candidate(long id, String title, boolean titleStart) {
+    }
+
+    @Autowired
+    public ShowTitleIndex(ShowRepository showRepository, MeterRegistry meterRegistry) {
+        this.showRepository = showRepository;
+        this.buildTimer = Timer.builder("tvbingo.suggest.index.build")
+                .description("Time to rebuild the title index from the database")
+                .register(meterRegistry);
+        Gauge.builder("tvbingo.suggest.index.titles", this, index -> index.titles.size())
+                .description("Show titles in the suggestion index")
+                .register(meterRegistry);
+        Gauge.builder("tvbingo.suggest.index.keys", this, index -> index.keyCount)
+                .description("Prefix keys (word starts) in the suggestion index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Brings the index in line with every title in the database. Shows written
+     * through this index while the database is read keep their newer state.
+     */
+    @Scheduled(initialDelayString = "${tvbingo.suggest.refresh-interval-ms:300000}",
+            fixedDelayString = "${tvbingo.suggest.refresh-interval-ms:300000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            buildTimer.record(() -> {
+                synchronized (this) {
+                    writtenDuringRebuild = new HashSet<>();
+                }
+                List<ShowSummary> shows;
+                try {
+                    shows = showRepository.findAllSummaries();
+                } catch (RuntimeException e) {
+                    synchronized (this) {
+                        writtenDuringRebuild = null;
+                    }
+                    throw e;
+                }
+                synchronized (this) {
+                    Map<Long, String> stored = new HashMap<>();
+                    shows.forEach(show -> stored.put(show.getId(), show.getShowTitle()));
+                    for (Long id : List.copyOf(titles.keySet())) {
+                        if (!stored.containsKey(id) && !writtenDuringRebuild.contains(id)) {
+                            unindex(id);
+                        }
+                    }
+                    stored.forEach((id, title) -> {
+                        if (!writtenDuringRebuild.contains(id)) {
+                            index(id, title);
+                        }
+                    });
+                    writtenDuringRebuild = null;
+                    publish();
+                }
+            });
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void buildOnStartup() {
+        try {
+            rebuild();
+            log.info("Built title index with {} shows", titles.size());
+        } catch (RuntimeException e) {
+            // Suggestions stay empty until the next scheduled rebuild; not worth failing startup
+            log.warn("Could not build title index at startup", e);
+        }
+    }
+
+    public synchronized void put(long id, String title) {
+        putAll(Map.of(id, title));
+    }
+
+    public synchronized void putAll(Map<Long, String> changes) {
+        Map<Long, Change> staged = new HashMap<>();
+        changes.forEach((id, title) -> {
+            written(id);
+            if (index(id, title)) {
+                staged.put(id, new Change(title, normalize(title)));
+            }
+        });
+        stage(staged);
+    }
+
+    public synchronized void remove(long id) {
+        removeAll(List.of(id));
+    }
+
+    public synchronized void removeAll(Iterable<Long> ids) {
+        Map<Long, Change> staged = new HashMap<>();
+        for (Long id : ids) {
+            written(id);
+            if (unindex(id)) {
+                staged.put(id, Change.REMOVED);
+            }
+        }
+        stage(staged);
+    }
+
+    /**
+     * Suggests titles that start with the prefix, or have a word that does.
+     * Titles starting with the prefix come first, then shorter titles.
+     *
+     * @param prefix what the user has typed so far
+     * @param limit maximum number of suggestions
+     * @return matching titles, best first; empty for a blank prefix
+     */
+    public List<ShowSuggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        State current = state;
+
+        // Title starts first, so the cap only ever drops word-start matches
+        // while there are title-start ones to show
+        Map<Long, Candidate> candidates = new HashMap<>();
+        collect(current.delta(), key, true, candidates);
+        collect(current, current.snapshot().titleStarts(), key, true, candidates);
+        collect(current.delta(), key, false, candidates);
+        collect(current, current.snapshot().wordStarts(), key, false, candidates);
+
+        return candidates.values().stream()
+                .sorted(Comparator.comparing(Candidate::titleStart).reversed()
+                        .thenComparingInt(candidate -> candidate.title().length())
+                        .thenComparing(Candidate::title))
+                .limit(limit)
+                .map(candidate -> new ShowSuggestion(candidate.id(), candidate.title()))
+                .toList();
+    }
+
+    private static void collect(State state, Keys keys, String prefix, boolean titleStart,
+                                Map<Long, Candidate> candidates) {
+        Snapshot snapshot = state.snapshot();
+        String[] texts = keys.texts();
+        for (int i = lowerBound(texts, prefix); i < texts.length && texts[i].startsWith(prefix); i++) {
+            if (candidates.size() >= MAX_CANDIDATES) {
+                return;
+            }
+            int owner = keys.owners()[i];
+            long id = snapshot.ids()[owner];
+            if (!state.delta().containsKey(id)) {
+                candidates.putIfAbsent(id, new Candidate(id, snapshot.titles()[owner], titleStart));
+            }
+        }
+    }
+
+    private static void collect(Map<Long, Change> delta, String prefix, boolean titleStart,
+                                Map<Long, Candidate> candidates) {
+        delta.forEach((id, change) -> {
+            if (change.title() != null && candidates.size() < MAX_CANDIDATES
+                    && (titleStart ? change.normalized().startsWith(prefix)
+                            : hasWordStartingWith(change.normalized(), prefix))) {
+                candidates.putIfAbsent(id, new Candidate(id, change.title(), titleStart));
+            }
+        });
+    }
+
+    private static boolean hasWordStartingWith(String normalized, String prefix) {
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            if (normalized.startsWith(prefix, i + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Caller holds the lock
+    private void written(long id) {
+        if (writtenDuringRebuild != null) {
+            writtenDuringRebuild.add(id);
+        }
+    }
+
+    // Caller holds the lock; true if the title changed
+    private boolean index(long id, String title) {
+        String old = titles.put(id, title);
+        if (title.equals(old)) {
+            return false;
+        }
+        keyCount += keyCount(title) - (old != null ? keyCount(old) : 0);
+        return true;
+    }
+
+    // Caller holds the lock; true if the show was indexed
+    private boolean unindex(long id) {
+        String old = titles.remove(id);
+        if (old == null) {
+            return false;
+        }
+        keyCount -= keyCount(old);
+        return true;
+    }
+
+    // Caller holds the lock
+    private void stage(Map<Long, Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Map<Long, Change> delta = new HashMap<>(state.delta());
+        delta.putAll(changes);
+        if (delta.size() > MAX_DELTA) {
+            publish();
+        } else {
+            state = new State(state.snapshot(), Collections.unmodifiableMap(delta));
+        }
+    }
+
+    private record Key(String text, int owner) {
+    }
+
+    // Caller holds the lock. Rebuilds the snapshot from titles, which already
+    // holds every staged change, and clears the delta.
+    private void publish() {
+        long[] ids = new long[titles.size()];
+        String[] titleArray = new String[titles.size()];
+        List<Key> titleStarts = new ArrayList<>(titles.size());
+        List<Key> wordStarts = new ArrayList<>(titles.size() * 2);
+
+        int owner = 0;
+        for (Map.Entry<Long, String> entry : titles.entrySet()) {
+            ids[owner] = entry.getKey();
+            titleArray[owner] = entry.getValue();
+            String normalized = normalize(entry.getValue());
+            titleStarts.add(new Key(normalized, owner));
+            for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+                wordStarts.add(new Key(normalized.substring(i + 1), owner));
+            }
+            owner++;
+        }
+        state = new State(new Snapshot(ids, titleArray, keys(titleStarts), keys(wordStarts)), Map.of());
+    }
+
+    // Unpacked into parallel arrays: no per-key objects survive the build
+    private static Keys keys(List<Key> keyList) {
+        keyList.sort(Comparator.comparing(Key::text));
+        String[] texts = new String[keyList.size()];
+        int[] owners = new int[keyList.size()];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = keyList.get(i).text();
+            owners[i] = keyList.get(i).owner();
+        }
+        return new Keys(texts, owners);
+    }
+
+    private static int lowerBound(String[] keys, String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // One key per word start
+    private static int keyCount(String title) {
+        String normalized = normalize(title);
+        int count = 1;
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text.strip(), Normalizer.Form.NFD);
+        String plain = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(plain).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -2,6 +2,10 @@
  * Validator class that checks if a show title is unique in the database.
  * This validator is used in conjunction with the {@link UniqueShowTitle} annotation
  * to ensure that show titles are not duplicated when creating or updating shows.
+ *
+ * <p>It is deliberately not applied to {@code ShowRequest}: creates and updates
+ * already rely on the uk_shows_show_title constraint, so this check would only
+ * add a query per request and could still race with a concurrent write.
  */
 package org.bomartin.tvbingo.validation;
 
@@ -2,10 +2,21 @@ package org.bomartin.tvbingo.validation;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
+/**
+ * Checks a phrase list for duplicates and over-long phrases in a single pass.
+ *
+ * <p>Two phrases are duplicates if they are equal ignoring case, leading and
+ * trailing whitespace, and the length of whitespace runs ("Come on in" and
+ * " come  ON in" collide). Every violation is reported, in index order, in one
+ * message: the error response has one entry per field, so separate violations
+ * on {@code phrases} would overwrite each other.
+ *
+ * <p>The common case is a valid list, so that path allocates only a small
+ * open-addressing table sized to the list. Normalised hashes and comparisons
+ * are computed over the original strings without building normalised copies.
+ */
 public class ValidPhrasesValidator implements ConstraintValidator<ValidPhrases, List<String>> {
 
     private int maxLength;
@@ -21,44 +32,151 @@ public class ValidPhrasesValidator implements ConstraintValidator<ValidPhrases,
             return true; // Empty list is valid
         }
 
-        // Check for duplicate phrases
-        Set<String> seen = new HashSet<>();
-        for (int i = 0; i < phrases.size(); i++) {
-            String phrase = phrases.get(i);
-            if (phrase != null) {
-                if (seen.contains(phrase)) {
-                    // Disable default message
-                    context.disableDefaultConstraintViolation();
-
-                    // Add custom message for duplicate
-                    String customMessage = String.format("Duplicate phrase found at index %d: '%s'",
-                            i, phrase);
-                    context.buildConstraintViolationWithTemplate(customMessage)
-                        .addConstraintViolation();
+        // Linear-probing table of the distinct phrases seen so far, at most half full
+        int capacity = Integer.highestOneBit(phrases.size()) << 2;
+        int mask = capacity - 1;
+        String[] keys = new String[capacity];
+        int[] hashes = new int[capacity];
+        int[] indexes = new int[capacity];
 
-                    return false;
-                }
-                seen.add(phrase);
+        StringBuilder violations = null;
+        int i = -1;
+        for (String phrase : phrases) {
+            i++;
+            if (phrase == null) {
+                continue;
+            }
+
+            int hash = normalizedHash(phrase);
+            int slot = mix(hash) & mask;
+            while (keys[slot] != null
+                    && (hashes[slot] != hash || !normalizedEquals(keys[slot], phrase))) {
+                slot = (slot + 1) & mask;
             }
+            if (keys[slot] != null) {
+                violations = append(violations)
+                        .append("Duplicate phrase found at index ").append(i)
+                        .append(": '").append(escape(phrase))
+                        .append("' (same as index ").append(indexes[slot]).append(')');
+            } else {
+                keys[slot] = phrase;
+                hashes[slot] = hash;
+                indexes[slot] = i;
+            }
+
+            if (phrase.length() > maxLength) {
+                violations = append(violations)
+                        .append("Phrase at index ").append(i)
+                        .append(" must not exceed ").append(maxLength)
+                        .append(" characters (got ").append(phrase.length()).append(')');
+            }
+        }
+
+        if (violations == null) {
+            return true;
         }
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(violations.toString())
+            .addConstraintViolation();
+        return false;
+    }
 
-        // Find first phrase that exceeds max length
-        for (int i = 0; i < phrases.size(); i++) {
-            String phrase = phrases.get(i);
-            if (phrase != null && phrase.length() > maxLength) {
-                // Disable default message
-                context.disableDefaultConstraintViolation();
+    private static StringBuilder append(StringBuilder violations) {
+        if (violations == null) {
+            return new StringBuilder(128);
+        }
+        return violations.append("; ");
+    }
 
-                // Add custom message with index
-                String customMessage = String.format("Phrase at index %d must not exceed %d characters (got %d)",
-                        i, maxLength, phrase.length());
-                context.buildConstraintViolationWithTemplate(customMessage)
-                    .addConstraintViolation();
+    /**
+     * Hash of the phrase as it would read trimmed, lower-cased and with each
+     * whitespace run collapsed to one space.
+     */
+    static int normalizedHash(String phrase) {
+        int hash = 0;
+        boolean started = false;
+        boolean pendingSpace = false;
+        for (int i = 0, n = phrase.length(); i < n; i++) {
+            char c = phrase.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = started;
+                continue;
+            }
+            if (pendingSpace) {
+                hash = 31 * hash + ' ';
+                pendingSpace = false;
+            }
+            hash = 31 * hash + fold(c);
+            started = true;
+        }
+        return hash;
+    }
 
+    /**
+     * Compares two phrases under the same normalisation as {@link #normalizedHash}.
+     */
+    static boolean normalizedEquals(String a, String b) {
+        int n = a.length();
+        int m = b.length();
+        int i = skipWhitespace(a, 0);
+        int j = skipWhitespace(b, 0);
+        while (i < n && j < m) {
+            char ca = a.charAt(i);
+            char cb = b.charAt(j);
+            boolean spaceA = Character.isWhitespace(ca);
+            boolean spaceB = Character.isWhitespace(cb);
+            if (spaceA || spaceB) {
+                if (spaceA != spaceB) {
+                    return false;
+                }
+                i = skipWhitespace(a, i);
+                j = skipWhitespace(b, j);
+                continue;
+            }
+            if (ca != cb && fold(ca) != fold(cb)) {
                 return false;
             }
+            i++;
+            j++;
+        }
+        return skipWhitespace(a, i) == n && skipWhitespace(b, j) == m;
+    }
+
+    private static int skipWhitespace(String s, int from) {
+        int n = s.length();
+        while (from < n && Character.isWhitespace(s.charAt(from))) {
+            from++;
         }
+        return from;
+    }
 
-        return true;
+    // Same folding as String.equalsIgnoreCase
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Escapes the characters the message interpolator treats specially, so a
+     * phrase such as "{jedi}" is echoed back literally.
+     */
+    private static String escape(String phrase) {
+        StringBuilder escaped = null;
+        for (int i = 0, n = phrase.length(); i < n; i++) {
+            char c = phrase.charAt(i);
+            if (c == '{' || c == '}' || c == '$' || c == '\\') {
+                if (escaped == null) {
+                    escaped = new StringBuilder(phrase.length() + 8).append(phrase, 0, i);
+                }
+                escaped.append('\\');
+            }
+            if (escaped != null) {
+                escaped.append(c);
+            }
+        }
+        return escaped != null ? escaped.toString() : phrase;
     }
 }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
 import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
 import org.bomartin.tvbingo.dto.ShowRequest;
+import org.bomartin.tvbingo.model.Show;
 import org.bomartin.tvbingo.repository.ShowRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
@@ -101,4 +103,62 @@ class ConcurrentIntegrationTests {
         assertThat(successCount.get()).isLessThanOrEqualTo(1);
         assertThat(successCount.get() + conflictCount.get()).isEqualTo(numberOfThreads);
     }
+
+    @Test
+    void updateShow_WithConcurrentEditsOfSameVersion_ShouldAcceptExactlyOne() throws Exception {
+        Show show = showRepository.save(Show.builder()
+                .showTitle("Concurrent Edit_" + UUID.randomUUID().toString().substring(0, 8))
+                .phrases(Arrays.asList("phrase1"))
+                .build());
+        int numberOfThreads = 10;
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch completionLatch = new CountDownLatch(numberOfThreads);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger conflictCount = new AtomicInteger(0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+
+        for (int i = 0; i < numberOfThreads; i++) {
+            final int editor = i;
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+
+                    // Every editor read the same version and saves a different change
+                    ShowRequest request = new ShowRequest();
+                    request.setShowTitle(show.getShowTitle());
+                    request.setGameTitle("Edited by " + editor);
+                    request.setVersion(show.getVersion());
+
+                    HttpHeaders headers = new HttpHeaders();
+                    headers.setContentType(MediaType.APPLICATION_JSON);
+                    HttpEntity<String> entity = new HttpEntity<>(
+                            objectMapper.writeValueAsString(request), headers);
+
+                    ResponseEntity<String> response = restTemplate.exchange(
+                            "/api/shows/" + show.getId(), HttpMethod.PUT, entity, String.class);
+
+                    int status = response.getStatusCode().value();
+                    if (status == 200) {
+                        successCount.incrementAndGet();
+                    } else if (status == 409) {
+                        conflictCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    // Unexpected — real HTTP errors should produce a status, not an exception
+                } finally {
+                    completionLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        completionLatch.await();
+        executor.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(conflictCount.get()).isEqualTo(numberOfThreads - 1);
+        assertThat(showRepository.findById(show.getId()).orElseThrow().getVersion())
+                .isEqualTo(show.getVersion() + 1);
+    }
 }
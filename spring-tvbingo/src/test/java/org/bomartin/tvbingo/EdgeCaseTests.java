@@ -275,6 +275,8 @@ class EdgeCaseTests {
                     updateRequest.setShowTitle(savedShow.getShowTitle());
                     updateRequest.setGameTitle("Updated by thread " + threadNum);
                     updateRequest.setPhrases(Arrays.asList("phrase from thread " + threadNum));
+                    // All threads edit the same read, so one wins and the rest get 409
+                    updateRequest.setVersion(savedShow.getVersion());
 
                     mockMvc.perform(put("/api/shows/" + savedShow.getId())
                             .contentType(MediaType.APPLICATION_JSON)
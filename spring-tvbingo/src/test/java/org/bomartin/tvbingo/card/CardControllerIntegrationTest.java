@@ -0,0 +1,217 @@
+package org.bomartin.tvbingo.card;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+import org.bomartin.tvbingo.model.Show;
+import org.bomartin.tvbingo.repository.ShowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for POST /api/shows/{id}/cards.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureEmbeddedDatabase(provider = DatabaseProvider.ZONKY)
+@ActiveProfiles("test")
+@Sql(scripts = "classpath:test-schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class CardControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Show show;
+
+    @BeforeEach
+    void setUp() {
+        showRepository.deleteAll();
+        List<String> phrases = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            phrases.add("Phrase " + i);
+        }
+        show = showRepository.save(Show.builder()
+                .showTitle("Card Show")
+                .centerSquare("Center")
+                .phrases(phrases)
+                .build());
+    }
+
+    @Test
+    void createCard_WithSeed_ShouldReturn24PhrasesAndCenterSquare() throws Exception {
+        mockMvc.perform(post("/api/shows/{id}/cards", show.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"seed\": 12345}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.showId").value(show.getId()))
+                .andExpect(jsonPath("$.seed").value(12345))
+                .andExpect(jsonPath("$.centerSquare").value("Center"))
+                .andExpect(jsonPath("$.phrases", hasSize(24)));
+    }
+
+    @Test
+    void createCard_WithSameSeed_ShouldReturnSameCard() throws Exception {
+        String first = createCard("{\"seed\": 99}");
+        String second = createCard("{\"seed\": 99}");
+
+        assertEquals(first, second);
+    }
+
+    @Test
+    void createCard_WithoutBody_ShouldPickAndReturnSeed() throws Exception {
+        String first = mockMvc.perform(post("/api/shows/{id}/cards", show.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.seed").isNumber())
+                .andExpect(jsonPath("$.phrases", hasSize(24)))
+                .andReturn().getResponse().getContentAsString();
+        String second = createCard("{}");
+
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void createCard_WithSeedBeyondJavaScriptPrecision_ShouldReturn400() throws Exception {
+        mockMvc.perform(post("/api/shows/{id}/cards", show.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"seed\": 9007199254740993}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.seed").value(CardService.SEED_RANGE_MSG));
+    }
+
+    @Test
+    void createCard_WithLargestSafeSeed_ShouldReturnIt() throws Exception {
+        mockMvc.perform(post("/api/shows/{id}/cards", show.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"seed\": -9007199254740991}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.seed").value(-CardService.MAX_SEED));
+    }
+
+    @Test
+    void createCard_WithoutCenterSquare_ShouldUseFreeSpace() throws Exception {
+        show.setCenterSquare(null);
+        showRepository.save(show);
+
+        mockMvc.perform(post("/api/shows/{id}/cards", show.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.centerSquare").value("FREE SPACE"));
+    }
+
+    @Test
+    void createCard_WithTooFewPhrases_ShouldReturn400() throws Exception {
+        Show smallShow = showRepository.save(Show.builder()
+                .showTitle("Small Show")
+                .phrases(Arrays.asList("Only", "Three", "Phrases"))
+                .build());
+
+        mockMvc.perform(post("/api/shows/{id}/cards", smallShow.getId()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("A bingo card needs at least 24 phrases"));
+    }
+
+    @Test
+    void createCard_WhenShowDoesNotExist_ShouldReturn404() throws Exception {
+        mockMvc.perform(post("/api/shows/{id}/cards", 99999L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Show not found with id: 99999"));
+    }
+
+    @Test
+    void createCards_ShouldStreamDistinctCardsAsNdjson() throws Exception {
+        String body = mockMvc.perform(post("/api/shows/{id}/cards/batch", show.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"count\": 150, \"seed\": 1}"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(150, lines.length);
+        Set<List<?>> distinctCards = new HashSet<>();
+        for (String line : lines) {
+            BingoCard card = objectMapper.readValue(line, BingoCard.class);
+            assertEquals(show.getId(), card.getShowId());
+            assertEquals(24, card.getPhrases().size());
+            assertTrue(Math.abs(card.getSeed()) <= CardService.MAX_SEED);
+            distinctCards.add(card.getPhrases());
+        }
+        assertEquals(150, distinctCards.size());
+    }
+
+    @Test
+    void createCards_WithCountOverLimit_ShouldReturn400() throws Exception {
+        mockMvc.perform(post("/api/shows/{id}/cards/batch", show.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"count\": 1001}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.count").value("count must be at most 1000"));
+    }
+
+    @Test
+    void createCards_WithSeedBeyondJavaScriptPrecision_ShouldReturn400() throws Exception {
+        mockMvc.perform(post("/api/shows/{id}/cards/batch", show.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"count\": 5, \"seed\": 9223372036854775807}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.seed").value(CardService.SEED_RANGE_MSG));
+    }
+
+    @Test
+    void createCards_WithTooFewPhrases_ShouldReturn400AsJson() throws Exception {
+        Show smallShow = showRepository.save(Show.builder()
+                .showTitle("Small Batch Show")
+                .phrases(Arrays.asList("One", "Two"))
+                .build());
+
+        mockMvc.perform(post("/api/shows/{id}/cards/batch", smallShow.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"count\": 5}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("A bingo card needs at least 24 phrases")));
+    }
+
+    @Test
+    void createCards_WhenShowDoesNotExist_ShouldReturn404() throws Exception {
+        mockMvc.perform(post("/api/shows/{id}/cards/batch", 99999L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"count\": 5}"))
+                .andExpect(status().isNotFound());
+    }
+
+    private String createCard(String body) throws Exception {
+        return mockMvc.perform(post("/api/shows/{id}/cards", show.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+}
@@ -0,0 +1,116 @@
+package org.bomartin.tvbingo.card;
+
+import org.bomartin.tvbingo.model.Show;
+import org.bomartin.tvbingo.service.ShowService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CardServiceTest {
+
+    @Mock
+    private ShowService showService;
+
+    @InjectMocks
+    private CardService cardService;
+
+    private Show show;
+
+    @BeforeEach
+    void setUp() {
+        List<String> phrases = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            phrases.add("Phrase " + i);
+        }
+        show = Show.builder()
+                .id(1L)
+                .showTitle("Card Show")
+                .centerSquare("Center")
+                .phrases(phrases)
+                .build();
+    }
+
+    @Test
+    void generateCard_ShouldReadShowThroughShowService() {
+        when(showService.getShow(1L)).thenReturn(Optional.of(show));
+
+        Optional<BingoCard> card = cardService.generateCard(1L, 5L);
+
+        assertThat(card).isPresent();
+        assertThat(card.get().getSeed()).isEqualTo(5L);
+        assertThat(card.get().getPhrases()).hasSize(24).doesNotHaveDuplicates();
+        verify(showService).getShow(1L);
+    }
+
+    @Test
+    void generateCard_WhenShowMissing_ShouldReturnEmpty() {
+        when(showService.getShow(2L)).thenReturn(Optional.empty());
+
+        assertThat(cardService.generateCard(2L, null)).isEmpty();
+    }
+
+    @Test
+    void generateCards_ShouldProduceRequestedNumberOfDistinctCards() {
+        List<BingoCard> cards = new ArrayList<>();
+
+        cardService.generateCards(show, 11L, 500, cards::add);
+
+        assertThat(cards).hasSize(500);
+        assertThat(new HashSet<>(cards.stream().map(BingoCard::getPhrases).toList())).hasSize(500);
+    }
+
+    @Test
+    void generateCards_WithSameSeed_ShouldBeReproducible() {
+        List<BingoCard> first = new ArrayList<>();
+        List<BingoCard> second = new ArrayList<>();
+
+        cardService.generateCards(show, 11L, 100, first::add);
+        cardService.generateCards(show, 11L, 100, second::add);
+
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    void generateCards_WithExactly24Phrases_ShouldStillBeDistinct() {
+        show.setPhrases(new ArrayList<>(show.getPhrases().subList(0, 24)));
+        List<BingoCard> cards = new ArrayList<>();
+
+        cardService.generateCards(show, 3L, 200, cards::add);
+
+        assertThat(cards.stream().map(BingoCard::getPhrases).distinct().count()).isEqualTo(200);
+    }
+
+    @Test
+    void generateCards_WithCountOutOfRange_ShouldThrowException() {
+        assertThatThrownBy(() -> cardService.generateCards(show, 1L, 0, card -> { }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("count must be between 1 and 1000");
+        assertThatThrownBy(() -> cardService.generateCards(show, 1L, 1001, card -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void generateCards_WithTooFewPhrases_ShouldThrowBeforeEmittingCards() {
+        show.setPhrases(List.of("Only one"));
+        List<BingoCard> cards = new ArrayList<>();
+
+        assertThatThrownBy(() -> cardService.generateCards(show, 1L, 10, cards::add))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("A bingo card needs at least 24 phrases");
+        assertThat(cards).isEmpty();
+    }
+}
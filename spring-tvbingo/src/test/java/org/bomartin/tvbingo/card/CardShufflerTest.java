@@ -0,0 +1,99 @@
+package org.bomartin.tvbingo.card;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CardShufflerTest {
+
+    @Test
+    void draw_ShouldReturn24DistinctIndicesWithinPool() {
+        int[] card = CardShuffler.draw(150, 42L);
+
+        assertThat(card).hasSize(CardShuffler.SQUARES);
+        assertThat(Arrays.stream(card).distinct().count()).isEqualTo(CardShuffler.SQUARES);
+        assertThat(card).allMatch(i -> i >= 0 && i < 150);
+    }
+
+    @Test
+    void draw_WithSameSeed_ShouldBeReproducible() {
+        assertThat(CardShuffler.draw(100, 7L)).containsExactly(CardShuffler.draw(100, 7L));
+    }
+
+    @Test
+    void draw_WithDifferentSeeds_ShouldProduceDifferentCards() {
+        assertThat(CardShuffler.draw(100, 7L)).isNotEqualTo(CardShuffler.draw(100, 8L));
+    }
+
+    @Test
+    void draw_ShouldMatchAFullFisherYatesOverThePool() {
+        // Cards are identified by seed, so the sparse shuffle must keep drawing
+        // exactly what a shuffle of the whole index array would
+        for (int poolSize : new int[] {24, 25, 60, 150}) {
+            for (long seed = 0; seed < 500; seed++) {
+                assertThat(CardShuffler.draw(poolSize, seed)).containsExactly(fullShuffle(poolSize, seed));
+            }
+        }
+    }
+
+    private static int[] fullShuffle(int poolSize, long seed) {
+        int[] indices = new int[poolSize];
+        for (int i = 0; i < poolSize; i++) {
+            indices[i] = i;
+        }
+        long state = seed;
+        for (int i = 0; i < CardShuffler.SQUARES; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            long z = state;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            z = z ^ (z >>> 31);
+            int j = i + (int) (((z >>> 32) * (poolSize - i)) >>> 32);
+            int swap = indices[i];
+            indices[i] = indices[j];
+            indices[j] = swap;
+        }
+        return Arrays.copyOf(indices, CardShuffler.SQUARES);
+    }
+
+    @Test
+    void draw_WithExactly24Phrases_ShouldUseEveryPhrase() {
+        int[] card = CardShuffler.draw(24, 3L);
+
+        assertThat(card).containsExactlyInAnyOrder(
+                0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23);
+    }
+
+    @Test
+    void draw_WithTooFewPhrases_ShouldThrowException() {
+        assertThatThrownBy(() -> CardShuffler.draw(23, 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("A bingo card needs at least 24 phrases");
+    }
+
+    @Test
+    void deriveSeed_ShouldStayWithinJavaScriptSafeIntegers() {
+        for (int i = 0; i < 1000; i++) {
+            assertThat(CardShuffler.deriveSeed(Long.MIN_VALUE + i, i)).isBetween(0L, CardService.MAX_SEED);
+        }
+    }
+
+    @Test
+    void draw_ShouldSpreadPhrasesEvenlyAcrossSeeds() {
+        int poolSize = 30;
+        int draws = 20_000;
+        int[] counts = new int[poolSize];
+        for (long seed = 0; seed < draws; seed++) {
+            for (int index : CardShuffler.draw(poolSize, seed)) {
+                counts[index]++;
+            }
+        }
+
+        // Each phrase should appear on ~24/30 of cards; allow a generous 5% tolerance
+        double expected = (double) draws * CardShuffler.SQUARES / poolSize;
+        assertThat(counts).allMatch(count -> Math.abs(count - expected) < expected * 0.05);
+    }
+}
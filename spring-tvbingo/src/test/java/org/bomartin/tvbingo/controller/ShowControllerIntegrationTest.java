@@ -29,6 +29,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -290,6 +292,69 @@ class ShowControllerIntegrationTest {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    void getAllShows_WithLimit_ShouldReturnFirstPageInIdOrder() throws Exception {
+        // Given
+        Show first = showRepository.save(Show.builder().showTitle(generateUniqueTitle("Page A")).build());
+        Show second = showRepository.save(Show.builder().showTitle(generateUniqueTitle("Page B")).build());
+        showRepository.save(Show.builder().showTitle(generateUniqueTitle("Page C")).build());
+
+        // When & Then
+        mockMvc.perform(get("/api/shows").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(first.getId()))
+                .andExpect(jsonPath("$[1].id").value(second.getId()));
+    }
+
+    @Test
+    void getAllShows_WithAfterCursor_ShouldReturnOnlyLaterShows() throws Exception {
+        // Given
+        Show first = showRepository.save(Show.builder().showTitle(generateUniqueTitle("Cursor A")).build());
+        Show second = showRepository.save(Show.builder()
+                .showTitle(generateUniqueTitle("Cursor B"))
+                .phrases(Arrays.asList("Phrase 1", "Phrase 2"))
+                .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/shows")
+                        .param("after", String.valueOf(first.getId()))
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(second.getId()))
+                .andExpect(jsonPath("$[0].phrases", hasSize(2)));
+    }
+
+    @Test
+    void getAllShows_WithOutOfRangeLimit_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/shows").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(containsString("limit")));
+
+        mockMvc.perform(get("/api/shows").param("limit", "501"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getShowSummaries_ShouldReturnPhraseCountWithoutPhrases() throws Exception {
+        // Given
+        showRepository.save(Show.builder()
+                .showTitle(generateUniqueTitle("Summary"))
+                .gameTitle("Summary Game")
+                .phrases(Arrays.asList("Phrase 1", "Phrase 2"))
+                .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/shows/summaries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").isNumber())
+                .andExpect(jsonPath("$[0].gameTitle").value("Summary Game"))
+                .andExpect(jsonPath("$[0].phraseCount").value(2))
+                .andExpect(jsonPath("$[0].phrases").doesNotExist());
+    }
+
     // ========== GET /api/shows/{id} (Get One) Tests ==========
 
     @Test
@@ -323,6 +388,194 @@ class ShowControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getShow_ShouldReturnVersionAsStrongEtag() throws Exception {
+        Show savedShow = showRepository.save(Show.builder().showTitle(generateUniqueTitle("Tagged")).build());
+
+        mockMvc.perform(get("/api/shows/{id}", savedShow.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(jsonPath("$.version").value(0));
+    }
+
+    @Test
+    void getShow_WithMatchingIfNoneMatch_ShouldReturn304WithoutBody() throws Exception {
+        Show savedShow = showRepository.save(Show.builder().showTitle(generateUniqueTitle("Unchanged")).build());
+
+        mockMvc.perform(get("/api/shows/{id}", savedShow.getId()).header("If-None-Match", "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getShow_AfterUpdate_ShouldNotMatchOldEtag() throws Exception {
+        Show savedShow = showRepository.save(Show.builder().showTitle(generateUniqueTitle("Changing")).build());
+        ShowRequest updateRequest = new ShowRequest();
+        updateRequest.setShowTitle(generateUniqueTitle("Changed"));
+        mockMvc.perform(put("/api/shows/{id}", savedShow.getId())
+                .header("If-Match", "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/shows/{id}", savedShow.getId()).header("If-None-Match", "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.showTitle").value(updateRequest.getShowTitle()));
+    }
+
+    @Test
+    void getAllShows_WithMatchingIfNoneMatch_ShouldReturn304UntilListChanges() throws Exception {
+        showRepository.save(Show.builder().showTitle(generateUniqueTitle("Listed")).build());
+        String etag = mockMvc.perform(get("/api/shows"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/shows").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        showRepository.save(Show.builder().showTitle(generateUniqueTitle("Added")).build());
+
+        mockMvc.perform(get("/api/shows").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    void getAllShows_AfterChangesKeepingCountMaxIdAndVersionSum_ShouldNotMatchOldEtag() throws Exception {
+        Show first = showRepository.save(Show.builder().showTitle(generateUniqueTitle("First")).build());
+        Show second = showRepository.save(Show.builder().showTitle(generateUniqueTitle("Second")).build());
+        showRepository.save(second);
+        String etag = mockMvc.perform(get("/api/shows"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Same count, same max(id) and same sum(version), but a different list
+        showRepository.deleteById(second.getId());
+        showRepository.save(Show.builder().id(second.getId()).showTitle(generateUniqueTitle("Replacement")).build());
+        showRepository.save(first);
+
+        mockMvc.perform(get("/api/shows").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    // ========== GET /api/shows/search (Search) Tests ==========
+
+    @Test
+    void searchShows_ShouldMatchStemmedPhraseWords() throws Exception {
+        showRepository.save(Show.builder()
+                .showTitle("The Office")
+                .phrases(Arrays.asList("Jim pranks Dwight", "Michael burns his foot"))
+                .build());
+        showRepository.save(Show.builder()
+                .showTitle("Lost")
+                .phrases(Arrays.asList("The numbers come up"))
+                .build());
+
+        mockMvc.perform(get("/api/shows/search").param("q", "prank"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].showTitle").value("The Office"))
+                .andExpect(jsonPath("$[0].phraseCount").value(2))
+                .andExpect(jsonPath("$[0].phrases").doesNotExist());
+    }
+
+    @Test
+    void searchShows_ShouldRankTitleMatchesAbovePhraseMatches() throws Exception {
+        showRepository.save(Show.builder()
+                .showTitle("Cooking Contest")
+                .phrases(Arrays.asList("Someone mentions the office"))
+                .build());
+        showRepository.save(Show.builder().showTitle("The Office").build());
+
+        mockMvc.perform(get("/api/shows/search").param("q", "office"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].showTitle").value("The Office"))
+                .andExpect(jsonPath("$[1].showTitle").value("Cooking Contest"));
+    }
+
+    @Test
+    void searchShows_WithTypoInTitle_ShouldStillMatch() throws Exception {
+        showRepository.save(Show.builder().showTitle("Breaking Bad").build());
+
+        mockMvc.perform(get("/api/shows/search").param("q", "Braeking Bad"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].showTitle").value("Breaking Bad"));
+    }
+
+    @Test
+    void searchShows_ShouldPaginate() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            showRepository.save(Show.builder().showTitle("Paged Show " + i).build());
+        }
+
+        mockMvc.perform(get("/api/shows/search").param("q", "paged").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+        mockMvc.perform(get("/api/shows/search").param("q", "paged").param("limit", "2").param("offset", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void searchShows_WithBlankQueryOrBadPage_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/shows/search").param("q", "  "))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/shows/search").param("q", "office").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/shows/search").param("q", "office").param("offset", "5000"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ========== GET /api/shows/suggest (Suggest) Tests ==========
+
+    @Test
+    void suggestShows_ShouldReflectCreateUpdateAndDelete() throws Exception {
+        // Written through the API so the service keeps the index current
+        ShowRequest request = new ShowRequest();
+        request.setShowTitle("Suggestible Show");
+        String created = mockMvc.perform(post("/api/shows")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+        request.setVersion(objectMapper.readTree(created).get("version").asLong());
+
+        mockMvc.perform(get("/api/shows/suggest").param("prefix", "sugg"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(id))
+                .andExpect(jsonPath("$[0].showTitle").value("Suggestible Show"));
+
+        request.setShowTitle("Renamed Zebulon");
+        mockMvc.perform(put("/api/shows/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/shows/suggest").param("prefix", "sugg"))
+                .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/api/shows/suggest").param("prefix", "zebu"))
+                .andExpect(jsonPath("$[0].showTitle").value("Renamed Zebulon"));
+
+        mockMvc.perform(delete("/api/shows/{id}", id))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/shows/suggest").param("prefix", "zebu"))
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void suggestShows_WithLimitOutOfRange_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/shows/suggest").param("prefix", "a").param("limit", "100"))
+                .andExpect(status().isBadRequest());
+    }
+
     // ========== PUT /api/shows/{id} (Update) Tests ==========
 
     @Test
@@ -341,6 +594,7 @@ class ShowControllerIntegrationTest {
         updateRequest.setGameTitle("Updated Game");
         updateRequest.setCenterSquare("Updated Center");
         updateRequest.setPhrases(Arrays.asList("New phrase 1", "New phrase 2", "New phrase 3"));
+        updateRequest.setVersion(savedShow.getVersion());
 
         // When & Then
         mockMvc.perform(put("/api/shows/{id}", savedShow.getId())
@@ -360,12 +614,106 @@ class ShowControllerIntegrationTest {
         assertEquals(3, updatedShow.getPhrases().size());
     }
 
+    @Test
+    void updateShow_WithCurrentVersion_ShouldReturn200AndNextVersion() throws Exception {
+        Show savedShow = showRepository.save(Show.builder().showTitle(generateUniqueTitle("Versioned")).build());
+
+        ShowRequest updateRequest = new ShowRequest();
+        updateRequest.setShowTitle(generateUniqueTitle("Versioned Update"));
+        updateRequest.setVersion(savedShow.getVersion());
+
+        mockMvc.perform(put("/api/shows/{id}", savedShow.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(savedShow.getVersion() + 1))
+                .andExpect(jsonPath("$.updatedAt").exists());
+    }
+
+    @Test
+    void updateShow_WithStaleVersion_ShouldReturn409AndKeepNewerEdit() throws Exception {
+        Show savedShow = showRepository.save(Show.builder().showTitle(generateUniqueTitle("Contested")).build());
+        long readVersion = savedShow.getVersion();
+
+        ShowRequest first = new ShowRequest();
+        first.setShowTitle(generateUniqueTitle("First Editor"));
+        first.setVersion(readVersion);
+        mockMvc.perform(put("/api/shows/{id}", savedShow.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(first)))
+                .andExpect(status().isOk());
+
+        ShowRequest second = new ShowRequest();
+        second.setShowTitle(generateUniqueTitle("Second Editor"));
+        second.setVersion(readVersion);
+        mockMvc.perform(put("/api/shows/{id}", savedShow.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(second)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").exists());
+
+        assertEquals(first.getShowTitle(),
+                showRepository.findById(savedShow.getId()).orElseThrow().getShowTitle());
+    }
+
+    @Test
+    void updateShow_WithoutVersion_ShouldReturn428AndKeepShow() throws Exception {
+        Show savedShow = showRepository.save(Show.builder().showTitle(generateUniqueTitle("Unversioned")).build());
+
+        ShowRequest updateRequest = new ShowRequest();
+        updateRequest.setShowTitle(generateUniqueTitle("Blind Overwrite"));
+
+        mockMvc.perform(put("/api/shows/{id}", savedShow.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isPreconditionRequired())
+                .andExpect(jsonPath("$.error").exists());
+
+        assertEquals(savedShow.getShowTitle(),
+                showRepository.findById(savedShow.getId()).orElseThrow().getShowTitle());
+    }
+
+    @Test
+    void updateShow_WithStaleIfMatch_ShouldReturn409() throws Exception {
+        Show savedShow = showRepository.save(Show.builder().showTitle(generateUniqueTitle("Tagged")).build());
+
+        ShowRequest updateRequest = new ShowRequest();
+        updateRequest.setShowTitle(generateUniqueTitle("Tagged Update"));
+
+        mockMvc.perform(put("/api/shows/{id}", savedShow.getId())
+                .header("If-Match", "\"" + (savedShow.getVersion() + 1) + "\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void updateShow_WithIfMatchDisagreeingWithBodyOrNotAVersion_ShouldReturn400() throws Exception {
+        Show savedShow = showRepository.save(Show.builder().showTitle(generateUniqueTitle("Mismatched")).build());
+
+        ShowRequest updateRequest = new ShowRequest();
+        updateRequest.setShowTitle(generateUniqueTitle("Mismatched Update"));
+        updateRequest.setVersion(savedShow.getVersion());
+
+        mockMvc.perform(put("/api/shows/{id}", savedShow.getId())
+                .header("If-Match", "\"" + (savedShow.getVersion() + 1) + "\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/api/shows/{id}", savedShow.getId())
+                .header("If-Match", "*")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void updateShow_WhenShowDoesNotExist_ShouldReturn404() throws Exception {
         // Given
         Long nonExistentId = 99999L;
         ShowRequest updateRequest = new ShowRequest();
         updateRequest.setShowTitle(generateUniqueTitle("New Title"));
+        updateRequest.setVersion(0L);
 
         // When & Then
         mockMvc.perform(put("/api/shows/{id}", nonExistentId)
@@ -408,6 +756,7 @@ class ShowControllerIntegrationTest {
         // Try to update show2 with show1's title
         ShowRequest updateRequest = new ShowRequest();
         updateRequest.setShowTitle(show1.getShowTitle());
+        updateRequest.setVersion(savedShow2.getVersion());
 
         // When & Then - should return 409 Conflict for uniqueness violations
         mockMvc.perform(put("/api/shows/{id}", savedShow2.getId())
@@ -430,6 +779,7 @@ class ShowControllerIntegrationTest {
         ShowRequest updateRequest = new ShowRequest();
         updateRequest.setShowTitle(originalTitle); // Same title
         updateRequest.setGameTitle("Updated Game");
+        updateRequest.setVersion(savedShow.getVersion());
 
         // When & Then
         mockMvc.perform(put("/api/shows/{id}", savedShow.getId())
@@ -493,6 +843,136 @@ class ShowControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    // ========== POST /api/shows/batch (Batch) Tests ==========
+
+    @Test
+    void applyBatch_WithMixedOperations_ShouldApplyAllAndReportPerItem() throws Exception {
+        Show toUpdate = showRepository.save(Show.builder().showTitle(generateUniqueTitle("Batch Update")).build());
+        Show toDelete = showRepository.save(Show.builder().showTitle(generateUniqueTitle("Batch Delete")).build());
+        String newTitle = generateUniqueTitle("Batch Create");
+        String renamed = generateUniqueTitle("Batch Renamed");
+
+        String body = """
+                {
+                  "create": [{"showTitle": "%s", "phrases": ["One", "Two"]}],
+                  "update": [{"id": %d, "show": {"showTitle": "%s", "version": %d}}],
+                  "delete": [%d]
+                }
+                """.formatted(newTitle, toUpdate.getId(), renamed, toUpdate.getVersion(), toDelete.getId());
+
+        mockMvc.perform(post("/api/shows/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.created[0].id").isNumber())
+                .andExpect(jsonPath("$.updated[0].status").value("UPDATED"))
+                .andExpect(jsonPath("$.updated[0].version").value(toUpdate.getVersion() + 1))
+                .andExpect(jsonPath("$.deleted[0].status").value("DELETED"));
+
+        assertEquals(renamed, showRepository.findById(toUpdate.getId()).orElseThrow().getShowTitle());
+        assertFalse(showRepository.findById(toDelete.getId()).isPresent());
+        assertTrue(showRepository.existsByShowTitle(newTitle));
+    }
+
+    @Test
+    void applyBatch_WithDuplicateTitles_ShouldSkipOnlyThoseItems() throws Exception {
+        String existingTitle = generateUniqueTitle("Batch Existing");
+        showRepository.save(Show.builder().showTitle(existingTitle).build());
+        String newTitle = generateUniqueTitle("Batch New");
+
+        String body = """
+                {"create": [{"showTitle": "%s"}, {"showTitle": "%s"}, {"showTitle": "%s"}]}
+                """.formatted(existingTitle, newTitle, newTitle);
+
+        mockMvc.perform(post("/api/shows/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", hasSize(3)))
+                .andExpect(jsonPath("$.created[0].status").value("DUPLICATE_TITLE"))
+                .andExpect(jsonPath("$.created[1].status").value("CREATED"))
+                .andExpect(jsonPath("$.created[2].status").value("DUPLICATE_TITLE"));
+
+        assertEquals(2, showRepository.count());
+    }
+
+    @Test
+    void applyBatch_WhenDeleteFreesTitle_ShouldAllowCreateWithIt() throws Exception {
+        String title = generateUniqueTitle("Batch Recycled");
+        Show old = showRepository.save(Show.builder().showTitle(title).build());
+
+        String body = """
+                {"create": [{"showTitle": "%s"}], "delete": [%d]}
+                """.formatted(title, old.getId());
+
+        mockMvc.perform(post("/api/shows/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted[0].status").value("DELETED"))
+                .andExpect(jsonPath("$.created[0].status").value("CREATED"));
+    }
+
+    @Test
+    void applyBatch_WhenUpdateRenamesShow_ShouldAllowCreateWithOldTitle() throws Exception {
+        String title = generateUniqueTitle("Batch Renamed From");
+        String renamed = generateUniqueTitle("Batch Renamed To");
+        Show old = showRepository.save(Show.builder().showTitle(title).build());
+
+        String body = """
+                {
+                  "create": [{"showTitle": "%s"}],
+                  "update": [{"id": %d, "show": {"showTitle": "%s", "version": %d}}]
+                }
+                """.formatted(title, old.getId(), renamed, old.getVersion());
+
+        mockMvc.perform(post("/api/shows/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated[0].status").value("UPDATED"))
+                .andExpect(jsonPath("$.created[0].status").value("CREATED"));
+
+        assertEquals(renamed, showRepository.findById(old.getId()).orElseThrow().getShowTitle());
+        assertTrue(showRepository.existsByShowTitle(title));
+    }
+
+    @Test
+    void applyBatch_WhenUpdateIsStale_ShouldNotClaimItsTitle() throws Exception {
+        Show show = showRepository.save(Show.builder().showTitle(generateUniqueTitle("Batch Stale")).build());
+        String wanted = generateUniqueTitle("Batch Wanted");
+
+        String body = """
+                {
+                  "create": [{"showTitle": "%s"}],
+                  "update": [{"id": %d, "show": {"showTitle": "%s", "version": %d}}]
+                }
+                """.formatted(wanted, show.getId(), wanted, show.getVersion() + 1);
+
+        mockMvc.perform(post("/api/shows/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated[0].status").value("STALE_VERSION"))
+                .andExpect(jsonPath("$.created[0].status").value("CREATED"));
+    }
+
+    @Test
+    void applyBatch_WithInvalidItem_ShouldReturn400AndWriteNothing() throws Exception {
+        String body = """
+                {"create": [{"showTitle": "%s"}, {"showTitle": ""}]}
+                """.formatted(generateUniqueTitle("Batch Valid"));
+
+        mockMvc.perform(post("/api/shows/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$['create[1].showTitle']").value("Show title is required"));
+
+        assertEquals(0, showRepository.count());
+    }
+
     // ========== Phrase Validation Tests ==========
 
     @Test
@@ -1,14 +1,17 @@
 package org.bomartin.tvbingo.exception;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -23,7 +26,8 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class GlobalExceptionHandlerTest {
 
-    @InjectMocks
+    private MeterRegistry meterRegistry;
+
     private GlobalExceptionHandler globalExceptionHandler;
 
     @Mock
@@ -34,7 +38,19 @@ class GlobalExceptionHandlerTest {
 
     @BeforeEach
     void setUp() {
-        // Common setup if needed
+        meterRegistry = new SimpleMeterRegistry();
+        globalExceptionHandler = new GlobalExceptionHandler(meterRegistry);
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+
+    private double titleConflicts(String operation) {
+        return meterRegistry.get(GlobalExceptionHandler.TITLE_CONFLICTS_METRIC)
+                .tag("operation", operation)
+                .counter()
+                .count();
     }
 
     @Test
@@ -98,7 +114,7 @@ class GlobalExceptionHandlerTest {
 
         // Act
         ResponseEntity<Map<String, String>> response = 
-            globalExceptionHandler.handleIllegalArgumentException(exception);
+            globalExceptionHandler.handleIllegalArgumentException(exception, request("POST", "/api/shows"));
 
         // Assert
         assertThat(response.getBody()).isNotNull();
@@ -114,7 +130,7 @@ class GlobalExceptionHandlerTest {
 
         // Act
         ResponseEntity<Map<String, String>> response = 
-            globalExceptionHandler.handleIllegalArgumentException(exception);
+            globalExceptionHandler.handleIllegalArgumentException(exception, request("POST", "/api/shows"));
 
         // Assert - uniqueness violations should return 409 Conflict
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
@@ -128,7 +144,7 @@ class GlobalExceptionHandlerTest {
 
         // Act
         ResponseEntity<Map<String, String>> response = 
-            globalExceptionHandler.handleIllegalArgumentException(exception);
+            globalExceptionHandler.handleIllegalArgumentException(exception, request("POST", "/api/shows"));
 
         // Assert - other errors should return 400 Bad Request
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
@@ -142,7 +158,7 @@ class GlobalExceptionHandlerTest {
 
         // Act
         ResponseEntity<Map<String, String>> response = 
-            globalExceptionHandler.handleDataIntegrityViolation(exception);
+            globalExceptionHandler.handleDataIntegrityViolation(exception, request("PUT", "/api/shows/1"));
 
         // Assert
         assertThat(response.getBody()).isNotNull();
@@ -157,12 +173,59 @@ class GlobalExceptionHandlerTest {
 
         // Act
         ResponseEntity<Map<String, String>> response = 
-            globalExceptionHandler.handleDataIntegrityViolation(exception);
+            globalExceptionHandler.handleDataIntegrityViolation(exception, request("PUT", "/api/shows/1"));
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
     }
 
+    @Test
+    void titleConflicts_ShouldBeCountedByTheRequestsOperation() {
+        // Act
+        globalExceptionHandler.handleIllegalArgumentException(
+            new IllegalArgumentException("Show title must be unique"), request("POST", "/api/shows"));
+        globalExceptionHandler.handleDataIntegrityViolation(
+            new DataIntegrityViolationException("constraint [uk_shows_show_title]"), request("POST", "/api/shows"));
+        globalExceptionHandler.handleDataIntegrityViolation(
+            new DataIntegrityViolationException("constraint [uk_shows_show_title]"), request("PUT", "/api/shows/1"));
+        globalExceptionHandler.handleDataIntegrityViolation(
+            new DataIntegrityViolationException("constraint [uk_shows_show_title]"), request("POST", "/api/shows/batch"));
+
+        // Assert
+        assertThat(titleConflicts("create")).isEqualTo(2);
+        assertThat(titleConflicts("update")).isEqualTo(1);
+        assertThat(titleConflicts("batch")).isEqualTo(1);
+        assertThat(titleConflicts("import")).isZero();
+    }
+
+    @Test
+    void otherErrors_ShouldNotCountAsTitleConflicts() {
+        // Act
+        globalExceptionHandler.handleIllegalArgumentException(
+            new IllegalArgumentException("Some other error"), request("POST", "/api/shows"));
+        globalExceptionHandler.handleDataIntegrityViolation(
+            new DataIntegrityViolationException("fk_games_show"), request("PUT", "/api/shows/1"));
+
+        // Assert
+        assertThat(titleConflicts("create")).isZero();
+        assertThat(titleConflicts("update")).isZero();
+    }
+
+    @Test
+    void handleOptimisticLockingFailure_ShouldReturn409WithReloadMessage() {
+        // Arrange
+        OptimisticLockingFailureException exception =
+            new OptimisticLockingFailureException("Show 1 is no longer at version 3");
+
+        // Act
+        ResponseEntity<Map<String, String>> response =
+            globalExceptionHandler.handleOptimisticLockingFailure(exception);
+
+        // Assert - the internal detail is not passed on to the client
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).containsEntry("error", GlobalExceptionHandler.STALE_UPDATE_MSG);
+    }
+
     @Test
     void errorResponses_ShouldHaveConsistentFormat() {
         // Arrange
@@ -180,9 +243,9 @@ class GlobalExceptionHandlerTest {
         ResponseEntity<Map<String, String>> validationResponse = 
             globalExceptionHandler.handleValidationExceptions(methodArgumentNotValidException);
         ResponseEntity<Map<String, String>> illegalArgResponse = 
-            globalExceptionHandler.handleIllegalArgumentException(illegalArgException);
+            globalExceptionHandler.handleIllegalArgumentException(illegalArgException, request("POST", "/api/shows"));
         ResponseEntity<Map<String, String>> dataIntegrityResponse = 
-            globalExceptionHandler.handleDataIntegrityViolation(dataIntegrityException);
+            globalExceptionHandler.handleDataIntegrityViolation(dataIntegrityException, request("PUT", "/api/shows/1"));
 
         // Assert - All responses should return Map<String, String> with at least one entry
         assertThat(validationResponse.getBody()).isInstanceOf(Map.class);
@@ -0,0 +1,102 @@
+package org.bomartin.tvbingo.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+import org.bomartin.tvbingo.dto.ShowRequest;
+import org.bomartin.tvbingo.importer.CsvShowReader;
+import org.bomartin.tvbingo.model.Show;
+import org.bomartin.tvbingo.repository.ShowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureEmbeddedDatabase(provider = DatabaseProvider.ZONKY)
+@ActiveProfiles("test")
+@Sql(scripts = "classpath:test-schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class ShowExportControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        showRepository.deleteAll();
+        showRepository.save(Show.builder()
+                .showTitle("The Office")
+                .gameTitle("Office, Season 1")
+                .phrases(Arrays.asList("That's what she said", "He said \"no\""))
+                .build());
+        showRepository.save(Show.builder().showTitle("Lost").build());
+    }
+
+    @Test
+    void exportShows_AsNdjson_ShouldWriteOneShowPerLine() throws Exception {
+        String body = mockMvc.perform(get("/api/shows/export"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"shows.ndjson\""))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("showTitle").asText()).isEqualTo("The Office");
+        assertThat(first.get("phrases")).hasSize(2);
+        assertThat(first.get("version").asLong()).isZero();
+    }
+
+    @Test
+    void exportShows_AsCsv_ShouldBeGzippedAndReadableByImporter() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/shows/export").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, ShowExportController.APPLICATION_GZIP))
+                .andReturn().getResponse();
+
+        CsvShowReader reader = CsvShowReader.open(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray())),
+                StandardCharsets.UTF_8));
+
+        ShowRequest office = reader.next().show();
+        assertThat(office.getShowTitle()).isEqualTo("The Office");
+        assertThat(office.getGameTitle()).isEqualTo("Office, Season 1");
+        assertThat(office.getPhrases()).containsExactly("That's what she said", "He said \"no\"");
+        assertThat(reader.next().show().getShowTitle()).isEqualTo("Lost");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void exportShows_WithUnknownFormat_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/shows/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+}
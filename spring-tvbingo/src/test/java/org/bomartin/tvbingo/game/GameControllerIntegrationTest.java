@@ -0,0 +1,186 @@
+package org.bomartin.tvbingo.game;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+import org.bomartin.tvbingo.model.Show;
+import org.bomartin.tvbingo.repository.ShowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the /api/games endpoints and the write-behind flush of marks.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureEmbeddedDatabase(provider = DatabaseProvider.ZONKY)
+@ActiveProfiles("test")
+@Sql(scripts = "classpath:test-schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class GameControllerIntegrationTest {
+
+    private static final int CENTER_BIT = 1 << 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    @Autowired
+    private GameStateStore gameStateStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Show show;
+
+    @BeforeEach
+    void setUp() {
+        // test-schema.sql restarts game ids, so marks buffered by an earlier
+        // test would otherwise be applied to this test's game with the same id
+        gameStateStore.clear();
+
+        List<String> phrases = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            phrases.add("Phrase " + i);
+        }
+        show = showRepository.save(Show.builder()
+                .showTitle("Game Show")
+                .centerSquare("Center")
+                .phrases(phrases)
+                .build());
+    }
+
+    private long createGame(String body) throws Exception {
+        String json = mockMvc.perform(post("/api/games")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(json).get("id").asLong();
+    }
+
+    private int storedMarks(long gameId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT marked FROM tvbingo_schema.games WHERE id = ?", Integer.class, gameId);
+    }
+
+    @Test
+    void createGame_ShouldDealCardWithCenterMarked() throws Exception {
+        mockMvc.perform(post("/api/games")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"showId\": " + show.getId() + ", \"seed\": 7, \"pattern\": \"X\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").isNumber())
+                .andExpect(jsonPath("$.showId").value(show.getId()))
+                .andExpect(jsonPath("$.seed").value(7))
+                .andExpect(jsonPath("$.pattern").value("X"))
+                .andExpect(jsonPath("$.centerSquare").value("Center"))
+                .andExpect(jsonPath("$.phrases", hasSize(24)))
+                .andExpect(jsonPath("$.marked").value(CENTER_BIT));
+    }
+
+    @Test
+    void createGame_WhenShowDoesNotExist_ShouldReturn404() throws Exception {
+        mockMvc.perform(post("/api/games")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"showId\": 99999}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void createGame_WithoutShowId_ShouldReturn400() throws Exception {
+        mockMvc.perform(post("/api/games")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.showId").value("Show ID is required"));
+    }
+
+    @Test
+    void markCell_ShouldBufferUntilFlush() throws Exception {
+        long gameId = createGame("{\"showId\": " + show.getId() + "}");
+
+        mockMvc.perform(put("/api/games/{id}/cells/{cell}", gameId, 0))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.marked").value(CENTER_BIT | 1))
+                .andExpect(jsonPath("$.won").value(false));
+
+        // Not written yet, but reads include the buffered mark
+        assertEquals(CENTER_BIT, storedMarks(gameId));
+        mockMvc.perform(get("/api/games/{id}", gameId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.marked").value(CENTER_BIT | 1));
+
+        gameStateStore.flush();
+
+        assertEquals(CENTER_BIT | 1, storedMarks(gameId));
+    }
+
+    @Test
+    void markCell_CompletingALine_ShouldWin() throws Exception {
+        long gameId = createGame("{\"showId\": " + show.getId() + "}");
+
+        for (int cell : new int[] {10, 11, 13}) {
+            mockMvc.perform(put("/api/games/{id}/cells/{cell}", gameId, cell))
+                    .andExpect(jsonPath("$.won").value(false));
+        }
+        mockMvc.perform(put("/api/games/{id}/cells/{cell}", gameId, 14))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.won").value(true))
+                .andExpect(jsonPath("$.completedLines").value(1 << 2));
+    }
+
+    @Test
+    void unmarkCell_ShouldClearCellButKeepCenter() throws Exception {
+        long gameId = createGame("{\"showId\": " + show.getId() + "}");
+        mockMvc.perform(put("/api/games/{id}/cells/{cell}", gameId, 3));
+
+        mockMvc.perform(delete("/api/games/{id}/cells/{cell}", gameId, 3))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.marked").value(CENTER_BIT));
+        mockMvc.perform(delete("/api/games/{id}/cells/{cell}", gameId, 12))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.marked").value(CENTER_BIT));
+    }
+
+    @Test
+    void markCell_OutsideCard_ShouldReturn400() throws Exception {
+        long gameId = createGame("{\"showId\": " + show.getId() + "}");
+
+        mockMvc.perform(put("/api/games/{id}/cells/{cell}", gameId, 25))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Cell must be between 0 and 24"));
+    }
+
+    @Test
+    void markCell_WhenGameDoesNotExist_ShouldReturn404() throws Exception {
+        mockMvc.perform(put("/api/games/{id}/cells/{cell}", 99999L, 0))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/games/{id}", 99999L))
+                .andExpect(status().isNotFound());
+    }
+}
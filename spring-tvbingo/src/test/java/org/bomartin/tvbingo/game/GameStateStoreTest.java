@@ -0,0 +1,117 @@
+package org.bomartin.tvbingo.game;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GameStateStoreTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private GameStateStore store;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        store = new GameStateStore(jdbcTemplate, 600_000);
+    }
+
+    private Optional<Game> load(long id) {
+        loads.incrementAndGet();
+        return Optional.of(Game.builder().id(id).pattern(WinPattern.LINE).marked(1 << 12).build());
+    }
+
+    @Test
+    void update_ShouldLoadOnceAndApplyChangesInMemory() {
+        store.update(1L, () -> load(1L), m -> m | 1);
+        Optional<GameStateStore.Marks> marks = store.update(1L, () -> load(1L), m -> m | 2);
+
+        assertThat(loads).hasValue(1);
+        assertThat(marks).get().extracting(GameStateStore.Marks::marked).isEqualTo((1 << 12) | 3);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void update_WhenGameMissing_ShouldReturnEmpty() {
+        assertThat(store.update(9L, Optional::empty, m -> m | 1)).isEmpty();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void clear_ShouldDropBufferedGamesWithoutWritingThem() {
+        store.update(1L, () -> load(1L), m -> m | 1);
+
+        store.clear();
+        store.flush();
+
+        assertThat(store.size()).isZero();
+        assertThat(store.bufferedMarks(1L)).isEmpty();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldWriteLatestMarksOfEachChangedGameInOneBatch() {
+        for (int cell = 0; cell < 5; cell++) {
+            int bit = 1 << cell;
+            store.update(1L, () -> load(1L), m -> m | bit);
+        }
+        store.update(2L, () -> load(2L), m -> m | 1);
+
+        store.flush();
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        assertThat(batch.getValue()).hasSize(2);
+        assertThat(batch.getValue()).anySatisfy(row -> assertThat(row).containsExactly((1 << 12) | 0b11111, 1L));
+
+        // Nothing changed since: the next flush writes nothing
+        store.flush();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void flush_WhenWriteFails_ShouldRetryOnNextFlush() {
+        store.update(1L, () -> load(1L), m -> m | 1);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(new int[] {1});
+
+        store.flush();
+        store.flush();
+
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void flush_ShouldEvictCleanIdleGames() {
+        GameStateStore shortLived = new GameStateStore(jdbcTemplate, -1);
+        shortLived.update(1L, () -> load(1L), m -> m | 1);
+
+        shortLived.flush(); // writes the dirty game
+        shortLived.flush(); // now clean and idle: evicted
+
+        assertThat(shortLived.size()).isZero();
+        assertThat(shortLived.bufferedMarks(1L)).isEmpty();
+    }
+}
@@ -0,0 +1,90 @@
+package org.bomartin.tvbingo.game;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.bomartin.tvbingo.game.WinDetector.cell;
+
+class WinDetectorTest {
+
+    private static int cells(int... indices) {
+        int marked = 0;
+        for (int index : indices) {
+            marked |= 1 << index;
+        }
+        return marked;
+    }
+
+    @Test
+    void completedLines_WithNothingMarked_ShouldBeEmpty() {
+        assertThat(WinDetector.completedLines(0)).isZero();
+        assertThat(WinDetector.hasWon(0, WinPattern.LINE)).isFalse();
+    }
+
+    @Test
+    void completedLines_ShouldMatchEveryRowColumnAndDiagonal() {
+        // Same lines as checkWinningCombinations() in BingoCard.vue
+        int[][] lines = {
+            {0, 1, 2, 3, 4}, {5, 6, 7, 8, 9}, {10, 11, 12, 13, 14}, {15, 16, 17, 18, 19}, {20, 21, 22, 23, 24},
+            {0, 5, 10, 15, 20}, {1, 6, 11, 16, 21}, {2, 7, 12, 17, 22}, {3, 8, 13, 18, 23}, {4, 9, 14, 19, 24},
+            {0, 6, 12, 18, 24}, {4, 8, 12, 16, 20}
+        };
+        for (int i = 0; i < lines.length; i++) {
+            int marked = cells(lines[i]);
+            assertThat(WinDetector.completedLines(marked)).isEqualTo(1 << i);
+            assertThat(WinDetector.hasWon(marked, WinPattern.LINE)).isTrue();
+        }
+    }
+
+    @Test
+    void completedLines_WithOneCellMissing_ShouldNotWin() {
+        int marked = cells(0, 1, 2, 3);
+
+        assertThat(WinDetector.completedLines(marked)).isZero();
+        assertThat(WinDetector.hasWon(marked, WinPattern.LINE)).isFalse();
+    }
+
+    @Test
+    void completedLines_WithBlackout_ShouldCompleteAllTwelveLines() {
+        assertThat(WinDetector.completedLines(WinDetector.ALL_CELLS)).isEqualTo((1 << WinDetector.LINE_COUNT) - 1);
+    }
+
+    @Test
+    void fourCorners_ShouldRequireAllFourCorners() {
+        int corners = cell(0, 0) | cell(0, 4) | cell(4, 0) | cell(4, 4);
+
+        assertThat(WinDetector.hasWon(corners, WinPattern.FOUR_CORNERS)).isTrue();
+        assertThat(WinDetector.hasWon(corners & ~cell(4, 4), WinPattern.FOUR_CORNERS)).isFalse();
+        assertThat(WinDetector.hasWon(corners, WinPattern.LINE)).isFalse();
+    }
+
+    @Test
+    void blackout_ShouldRequireEveryCell() {
+        assertThat(WinDetector.hasWon(WinDetector.ALL_CELLS, WinPattern.BLACKOUT)).isTrue();
+        assertThat(WinDetector.hasWon(WinDetector.ALL_CELLS & ~(1 << 7), WinPattern.BLACKOUT)).isFalse();
+    }
+
+    @Test
+    void x_ShouldRequireBothDiagonals() {
+        int mainDiagonal = cells(0, 6, 12, 18, 24);
+        int antiDiagonal = cells(4, 8, 12, 16, 20);
+
+        assertThat(WinDetector.hasWon(mainDiagonal | antiDiagonal, WinPattern.X)).isTrue();
+        assertThat(WinDetector.hasWon(mainDiagonal, WinPattern.X)).isFalse();
+    }
+
+    @Test
+    void l_ShouldRequireLeftColumnAndBottomRow() {
+        int leftColumn = cells(0, 5, 10, 15, 20);
+        int bottomRow = cells(20, 21, 22, 23, 24);
+
+        assertThat(WinDetector.hasWon(leftColumn | bottomRow, WinPattern.L)).isTrue();
+        assertThat(WinDetector.hasWon(bottomRow, WinPattern.L)).isFalse();
+    }
+
+    @Test
+    void center_ShouldBeCellTwelve() {
+        assertThat(cell(2, 2)).isEqualTo(1 << WinDetector.CENTER);
+        assertThat(WinDetector.CENTER).isEqualTo(12);
+    }
+}
@@ -0,0 +1,69 @@
+package org.bomartin.tvbingo.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvShowReaderTest {
+
+    @Test
+    void splitLine_WithQuotedFields_ShouldUnquoteAndKeepCommas() {
+        List<String> fields = CsvShowReader.splitLine("The Office,\"Bingo, Season 1\",\"He said \"\"no\"\"\",");
+
+        assertThat(fields).containsExactly("The Office", "Bingo, Season 1", "He said \"no\"", "");
+    }
+
+    @Test
+    void splitLine_WithUnterminatedQuote_ShouldThrow() {
+        assertThatThrownBy(() -> CsvShowReader.splitLine("\"open"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unterminated quoted field");
+    }
+
+    @Test
+    void open_WithWrongHeader_ShouldThrow() {
+        assertThatThrownBy(() -> CsvShowReader.open(new StringReader("title,phrases\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("showTitle,gameTitle,centerSquare");
+    }
+
+    @Test
+    void next_ShouldReadShowsWithVariableNumberOfPhrases() throws IOException {
+        CsvShowReader reader = CsvShowReader.open(new StringReader("""
+                showTitle,gameTitle,centerSquare,phrase1,phrase2
+                The Office,Office Bingo,Free,Beets,Pranks\r
+                
+                Lost,,,Numbers,,
+                """));
+
+        ShowRecordReader.Row first = reader.next();
+        assertThat(first.line()).isEqualTo(2);
+        assertThat(first.show().getShowTitle()).isEqualTo("The Office");
+        assertThat(first.show().getPhrases()).containsExactly("Beets", "Pranks");
+
+        ShowRecordReader.Row second = reader.next();
+        assertThat(second.line()).isEqualTo(4);
+        assertThat(second.show().getGameTitle()).isNull();
+        assertThat(second.show().getPhrases()).containsExactly("Numbers");
+
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void next_WithOverlongLine_ShouldReportErrorAndContinue() throws IOException {
+        String longLine = "x".repeat(ShowRecordReader.MAX_LINE_LENGTH + 10);
+        CsvShowReader reader = CsvShowReader.open(new StringReader(
+                "showTitle,gameTitle,centerSquare\n" + longLine + "\nShort,,\n"));
+
+        ShowRecordReader.Row tooLong = reader.next();
+        assertThat(tooLong.show()).isNull();
+        assertThat(tooLong.error()).contains("longer than");
+
+        assertThat(reader.next().show().getShowTitle()).isEqualTo("Short");
+    }
+}
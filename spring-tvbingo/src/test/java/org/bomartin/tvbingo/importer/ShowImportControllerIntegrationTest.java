@@ -0,0 +1,122 @@
+package org.bomartin.tvbingo.importer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+import org.bomartin.tvbingo.repository.ShowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "tvbingo.import.chunk-size=2")
+@AutoConfigureMockMvc
+@AutoConfigureEmbeddedDatabase(provider = DatabaseProvider.ZONKY)
+@ActiveProfiles("test")
+@Sql(scripts = "classpath:test-schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class ShowImportControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        showRepository.deleteAll();
+    }
+
+    private List<JsonNode> importLines(String contentType, String body) throws Exception {
+        String response = mockMvc.perform(post("/api/shows/import")
+                .contentType(contentType)
+                .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return response.lines().map(line -> {
+            try {
+                return objectMapper.readTree(line);
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        }).toList();
+    }
+
+    @Test
+    void importCsv_ShouldCommitInChunksAndReportProgress() throws Exception {
+        List<JsonNode> lines = importLines("text/csv", """
+                showTitle,gameTitle,centerSquare,phrase
+                Show A,,,One
+                Show B,,,Two
+                Show C,,,Three
+                Show D,,,Four
+                Show E,,,Five
+                """);
+
+        // Two full chunks of two, then the final totals
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0).get("created").asLong()).isEqualTo(2);
+        assertThat(lines.get(1).get("created").asLong()).isEqualTo(4);
+        JsonNode result = lines.get(2);
+        assertThat(result.get("done").asBoolean()).isTrue();
+        assertThat(result.get("created").asLong()).isEqualTo(5);
+        assertThat(showRepository.count()).isEqualTo(5);
+    }
+
+    @Test
+    void importCsv_WithInvalidAndDuplicateRows_ShouldSkipThemAndReportLines() throws Exception {
+        List<JsonNode> lines = importLines("text/csv", """
+                showTitle,gameTitle,centerSquare,phrase,phrase
+                Good Show,,,One,Two
+                ,,,Missing title
+                Repeat,,,Same,Same
+                Good Show,,,Three
+                """);
+
+        JsonNode result = lines.get(lines.size() - 1);
+        assertThat(result.get("rows").asLong()).isEqualTo(4);
+        assertThat(result.get("created").asLong()).isEqualTo(1);
+        assertThat(result.get("invalid").asLong()).isEqualTo(2);
+        assertThat(result.get("duplicates").asLong()).isEqualTo(1);
+        assertThat(result.get("errors")).extracting(error -> error.get("line").asLong())
+                .containsExactlyInAnyOrder(3L, 4L, 5L);
+        assertThat(showRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void importCsv_WithWrongHeader_ShouldReturn400() throws Exception {
+        mockMvc.perform(post("/api/shows/import")
+                .contentType("text/csv")
+                .content("title\nShow A\n"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void importNdjson_ShouldImportEachLineAndReportMalformedOnes() throws Exception {
+        List<JsonNode> lines = importLines(MediaType.APPLICATION_NDJSON_VALUE, """
+                {"showTitle": "Json A", "phrases": ["One"]}
+                {not json
+                {"showTitle": "Json B", "centerSquare": "Free"}
+                """);
+
+        JsonNode result = lines.get(lines.size() - 1);
+        assertThat(result.get("created").asLong()).isEqualTo(2);
+        assertThat(result.get("invalid").asLong()).isEqualTo(1);
+        assertThat(result.get("errors").get(0).get("message").asText()).isEqualTo("Malformed JSON");
+    }
+}
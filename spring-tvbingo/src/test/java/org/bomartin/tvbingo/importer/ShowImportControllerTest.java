@@ -0,0 +1,54 @@
+package org.bomartin.tvbingo.importer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShowImportControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ShowImporter showImporter = mock(ShowImporter.class);
+    private final ShowImportController controller = new ShowImportController(showImporter, objectMapper);
+
+    @Test
+    void importNdjson_WhenImportFailsAfterProgress_ShouldEndWithErrorLine() throws Exception {
+        when(showImporter.importShows(any(), any())).thenAnswer(invocation -> {
+            ImportProgress progress = new ImportProgress();
+            progress.setRows(2);
+            progress.setCreated(2);
+            Consumer<ImportProgress> onChunk = invocation.getArgument(1);
+            onChunk.accept(progress);
+            throw new IllegalStateException("connection lost");
+        });
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/shows/import");
+        request.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        request.setContent("{\"showTitle\": \"A\"}\n".getBytes());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.importNdjson(request, response);
+
+        List<JsonNode> lines = response.getContentAsString().lines().map(line -> {
+            try {
+                return objectMapper.readTree(line);
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        }).toList();
+        assertThat(lines).hasSize(2);
+        JsonNode last = lines.get(1);
+        assertThat(last.get("done").asBoolean()).isFalse();
+        assertThat(last.get("created").asLong()).isEqualTo(2);
+        assertThat(last.get("error").asText()).isEqualTo(ShowImportController.IMPORT_FAILED_MSG);
+    }
+}
@@ -0,0 +1,45 @@
+package org.bomartin.tvbingo.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.bomartin.tvbingo.dto.ShowBatchResult;
+import org.bomartin.tvbingo.service.ShowService;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShowImporterTest {
+
+    private final ShowService showService = mock(ShowService.class);
+    private final ShowImporter importer = new ShowImporter(
+            showService, Validation.buildDefaultValidatorFactory().getValidator(), 2);
+
+    @Test
+    void importShows_WhenChunkIsRejected_ShouldReportItsRowsAndContinue() throws Exception {
+        ShowBatchResult written = new ShowBatchResult();
+        written.getCreated().add(new ShowBatchResult.Item(ShowBatchResult.Status.CREATED, 3L, 0L));
+        when(showService.applyBatch(any(), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("uk_shows_show_title"))
+                .thenReturn(written);
+        NdjsonShowReader reader = new NdjsonShowReader(new StringReader("""
+                {"showTitle": "A"}
+                {"showTitle": "B"}
+                {"showTitle": "C"}
+                """), new ObjectMapper());
+
+        ImportProgress result = importer.importShows(reader, progress -> { });
+
+        assertThat(result.isDone()).isTrue();
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(ImportProgress.RowError::getLine).containsExactly(1L, 2L);
+        assertThat(result.getErrors()).extracting(ImportProgress.RowError::getMessage)
+                .containsOnly(ShowImporter.CHUNK_FAILED_MSG);
+    }
+}
@@ -0,0 +1,68 @@
+package org.bomartin.tvbingo.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+import org.bomartin.tvbingo.model.Show;
+import org.bomartin.tvbingo.repository.ShowRepository;
+import org.bomartin.tvbingo.repository.ShowWriteRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureEmbeddedDatabase(provider = DatabaseProvider.ZONKY)
+@ActiveProfiles("test")
+@Sql(scripts = "classpath:test-schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class QueryStatisticsEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    @Autowired
+    private ShowWriteRepository showWriteRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void statements_ShouldBeTaggedWithTheCallingRepositoryMethod() {
+        Show show = showWriteRepository.insert(Show.builder()
+                .showTitle("Timed Statement Show")
+                .phrases(Arrays.asList("Phrase 1"))
+                .build()).orElseThrow();
+        showRepository.findVersionById(show.getId());
+
+        assertThat(meterRegistry.find(QueryStatistics.METRIC).tag("caller", "ShowWriteRepository.insert").timer())
+                .isNotNull();
+        assertThat(meterRegistry.find(QueryStatistics.METRIC).tag("caller", "ShowRepository.findVersionById").timer())
+                .isNotNull();
+    }
+
+    @Test
+    void queriesEndpoint_ShouldListCallersAndSlowestStatements() throws Exception {
+        showRepository.findAllSummaries();
+
+        mockMvc.perform(get("/actuator/queries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.slowQueryThresholdMillis").isNumber())
+                .andExpect(jsonPath("$.callers[*].caller", hasItem("ShowRepository.findAllSummaries")))
+                .andExpect(jsonPath("$.slowest").isArray());
+    }
+}
@@ -0,0 +1,90 @@
+package org.bomartin.tvbingo.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.bomartin.tvbingo.jdbc.QueryStatistics.SlowStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryStatisticsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        statistics = new QueryStatistics(meterRegistry, 100, 3);
+    }
+
+    private void record(String caller, String sql, long millis) {
+        statistics.record(caller, List.of(new QueryInfo(sql)), TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private static ParameterSetOperation set(String setter, Class<?> type, Object... args) throws Exception {
+        return new ParameterSetOperation(PreparedStatement.class.getMethod(setter, int.class, type), args);
+    }
+
+    @Test
+    void record_ShouldTimeStatementsPerCaller() {
+        record("ShowRepository.findById", "SELECT 1", 5);
+        record("ShowRepository.findById", "SELECT 1", 7);
+        record("ShowWriteRepository.insert", "INSERT", 3);
+
+        assertThat(meterRegistry.get(QueryStatistics.METRIC).tag("caller", "ShowRepository.findById")
+                .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(QueryStatistics.METRIC).tag("caller", "ShowWriteRepository.insert")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void slowest_ShouldKeepOnlyTheSlowestStatementsSlowestFirst() {
+        record("a", "SELECT a", 10);
+        record("b", "SELECT b", 300);
+        record("c", "SELECT c", 50);
+        record("d", "SELECT d", 5);
+        record("e", "SELECT e", 120);
+
+        assertThat(statistics.slowest())
+                .extracting(SlowStatement::caller)
+                .containsExactly("b", "e", "c");
+    }
+
+    @Test
+    void clearSlowest_ShouldEmptyTheTable() {
+        record("a", "SELECT a", 10);
+
+        statistics.clearSlowest();
+
+        assertThat(statistics.slowest()).isEmpty();
+    }
+
+    @Test
+    void redact_ShouldShowOnlyNumbersBooleansAndNulls() throws Exception {
+        List<ParameterSetOperation> parameters = List.of(
+                set("setLong", long.class, 1, 42L),
+                set("setString", String.class, 2, "That's what she said"),
+                set("setNull", int.class, 3, Types.VARCHAR),
+                set("setBoolean", boolean.class, 4, true));
+
+        assertThat(QueryStatistics.redact(List.of(parameters)))
+                .isEqualTo("[1=42, 2=<String>, 3=NULL, 4=true]");
+    }
+
+    @Test
+    void redact_WithBatch_ShouldShowFirstSetAndCountTheRest() throws Exception {
+        List<ParameterSetOperation> first = List.of(set("setLong", long.class, 1, 1L));
+        List<ParameterSetOperation> second = List.of(set("setLong", long.class, 1, 2L));
+
+        assertThat(QueryStatistics.redact(List.of(first, second, second)))
+                .isEqualTo("[1=1] (+2 more sets)");
+    }
+}
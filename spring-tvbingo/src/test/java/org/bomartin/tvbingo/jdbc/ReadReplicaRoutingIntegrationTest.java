@@ -0,0 +1,202 @@
+package org.bomartin.tvbingo.jdbc;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the application against two embedded Postgres servers, one as the
+ * primary and one as its replica. Nothing replicates between them, so a test
+ * can tell which server answered a read by giving the same show a different
+ * title on each.
+ *
+ * <p>Tests run in order because the last ones start the read-your-writes
+ * window and stop the replica.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@Sql(scripts = "classpath:test-schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final long READ_YOUR_WRITES_MILLIS = 2000;
+
+    private static EmbeddedPostgres primary;
+    private static EmbeddedPostgres replica;
+    private static boolean replicaStopped;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReadReplicas readReplicas;
+
+    @DynamicPropertySource
+    static void databases(DynamicPropertyRegistry registry) throws IOException {
+        primary = EmbeddedPostgres.start();
+        replica = EmbeddedPostgres.start();
+        registry.add("spring.datasource.url", () -> jdbcUrl(primary));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("tvbingo.datasource.replica-urls", () -> jdbcUrl(replica));
+        // Short, so the failover test can wait out the window the write test opens
+        registry.add("tvbingo.datasource.read-your-writes-ms", () -> READ_YOUR_WRITES_MILLIS);
+    }
+
+    private static String jdbcUrl(EmbeddedPostgres postgres) {
+        return postgres.getJdbcUrl("postgres", "postgres") + "&currentSchema=tvbingo_schema";
+    }
+
+    @AfterAll
+    static void stopDatabases() throws IOException {
+        if (!replicaStopped) {
+            replica.close();
+        }
+        primary.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        // @Sql resets the primary; the replica gets the same schema here
+        if (!replicaStopped) {
+            new ResourceDatabasePopulator(new ClassPathResource("test-schema.sql"))
+                    .execute(replica.getPostgresDatabase());
+            readReplicas.checkReplicas();
+        }
+    }
+
+    private static void insertShow(EmbeddedPostgres postgres, String title, int phraseCount) {
+        String[] phrases = IntStream.rangeClosed(1, phraseCount).mapToObj(i -> "Phrase " + i).toArray(String[]::new);
+        new JdbcTemplate(postgres.getPostgresDatabase()).update(
+                "INSERT INTO tvbingo_schema.shows (id, show_title, phrase_ids) "
+                        + "VALUES (1, ?, tvbingo_schema.intern_phrases(?))", title, phrases);
+    }
+
+    @Test
+    @Order(1)
+    void getShow_ShouldReadFromReplica() throws Exception {
+        insertShow(primary, "On Primary", 1);
+        insertShow(replica, "On Replica", 1);
+
+        mockMvc.perform(get("/api/shows/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.showTitle").value("On Replica"));
+    }
+
+    @Test
+    @Order(2)
+    void createCard_ShouldReadFromReplicaWithoutCountingAsWrite() throws Exception {
+        insertShow(replica, "Only On Replica", 24);
+
+        mockMvc.perform(post("/api/shows/1/cards"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.phrases.length()").value(24))
+                .andExpect(cookie().doesNotExist(ReplicaRoutingInterceptor.COOKIE));
+    }
+
+    @Test
+    @Order(3)
+    void createGame_ShouldNotCountAsShowWrite() throws Exception {
+        insertShow(primary, "Game Show", 24);
+
+        mockMvc.perform(post("/api/games")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"showId\": 1, \"seed\": 7}"))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().doesNotExist(ReplicaRoutingInterceptor.COOKIE));
+
+        assertFalse(readReplicas.recentlyWritten());
+    }
+
+    @Test
+    @Order(4)
+    void getShow_WithStickyCookie_ShouldReadFromPrimary() throws Exception {
+        insertShow(primary, "On Primary", 1);
+        insertShow(replica, "On Replica", 1);
+
+        mockMvc.perform(get("/api/shows/1").cookie(new Cookie(ReplicaRoutingInterceptor.COOKIE, "1")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.showTitle").value("On Primary"));
+    }
+
+    @Test
+    @Order(5)
+    void getShow_AfterShowWriteOnThisInstance_ShouldReadFromPrimaryWithoutCookie() throws Exception {
+        mockMvc.perform(post("/api/shows")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"showTitle\": \"On Primary\", \"phrases\": [\"Phrase 1\"]}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(1));
+        insertShow(replica, "On Replica", 1);
+
+        // Another client, so only this instance's window keeps the read on the primary
+        mockMvc.perform(get("/api/shows/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.showTitle").value("On Primary"));
+        assertEquals(1, readReplicas.healthyCount());
+    }
+
+    @Test
+    @Order(6)
+    void getShow_WithReplicaDown_ShouldFailOverToPrimary() throws Exception {
+        insertShow(primary, "On Primary", 1);
+        replica.close();
+        replicaStopped = true;
+        for (int i = 0; i < 50 && readReplicas.recentlyWritten(); i++) {
+            Thread.sleep(100);
+        }
+        assertFalse(readReplicas.recentlyWritten());
+
+        readReplicas.checkReplicas();
+
+        assertEquals(0, readReplicas.healthyCount());
+        mockMvc.perform(get("/api/shows/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.showTitle").value("On Primary"));
+    }
+
+    @Test
+    @Order(7)
+    void createShow_ShouldStartReadYourWritesWindow() throws Exception {
+        mockMvc.perform(post("/api/shows")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"showTitle\": \"Written Show\", \"phrases\": [\"Phrase 1\"]}"))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().value(ReplicaRoutingInterceptor.COOKIE, "1"))
+                .andExpect(cookie().maxAge(ReplicaRoutingInterceptor.COOKIE, (int) (READ_YOUR_WRITES_MILLIS / 1000)))
+                .andExpect(cookie().httpOnly(ReplicaRoutingInterceptor.COOKIE, true));
+
+        assertTrue(readReplicas.recentlyWritten());
+    }
+}
@@ -0,0 +1,140 @@
+package org.bomartin.tvbingo.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+
+    @AfterEach
+    void clearRoute() {
+        ReadWriteRoutingDataSource.clearRoute();
+    }
+
+    private DataSource primary() throws SQLException {
+        DataSource primary = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        return primary;
+    }
+
+    // A replica whose health check reports the given lag, then hands out replicaConnection
+    private DataSource replica(double lagMillis) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true);
+        when(rs.getDouble(1)).thenReturn(lagMillis);
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery(ReadReplicas.LAG_SQL)).thenReturn(rs);
+        Connection checkConnection = mock(Connection.class);
+        when(checkConnection.createStatement()).thenReturn(statement);
+        DataSource replica = mock(DataSource.class);
+        when(replica.getConnection()).thenReturn(checkConnection, replicaConnection);
+        return replica;
+    }
+
+    private static ReadReplicas checked(DataSource replica) {
+        ReadReplicas replicas = new ReadReplicas(List.of(replica), 1000, 5000);
+        replicas.checkReplicas();
+        return replicas;
+    }
+
+    @Test
+    void getConnection_WhenNotRouted_ShouldUsePrimary() throws Exception {
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(primary(), checked(replica(0)));
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void getConnection_WhenRouted_ShouldUseHealthyReplica() throws Exception {
+        ReadReplicas replicas = checked(replica(0));
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(primary(), replicas);
+
+        ReadWriteRoutingDataSource.routeToReplica();
+
+        assertThat(replicas.healthyCount()).isEqualTo(1);
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void getConnection_WhenRoutedAndReplicaIsLagging_ShouldUsePrimary() throws Exception {
+        ReadReplicas replicas = checked(replica(5000));
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(primary(), replicas);
+
+        ReadWriteRoutingDataSource.routeToReplica();
+
+        assertThat(replicas.healthyCount()).isZero();
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void getConnection_WhenRoutedBeforeFirstCheck_ShouldUsePrimary() throws Exception {
+        ReadReplicas replicas = new ReadReplicas(List.of(replica(0)), 1000, 5000);
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(primary(), replicas);
+
+        ReadWriteRoutingDataSource.routeToReplica();
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void getConnection_WhenReplicaRefusesConnection_ShouldFailOverAndTakeItOutOfRotation() throws Exception {
+        DataSource replica = replica(0);
+        ReadReplicas replicas = checked(replica);
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(primary(), replicas);
+
+        ReadWriteRoutingDataSource.routeToReplica();
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(replicas.healthyCount()).isZero();
+    }
+
+    @Test
+    void getConnection_WithCredentials_ShouldAlwaysUsePrimary() throws Exception {
+        DataSource primary = primary();
+        when(primary.getConnection("user", "secret")).thenReturn(primaryConnection);
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(primary, checked(replica(0)));
+
+        ReadWriteRoutingDataSource.routeToReplica();
+
+        assertThat(dataSource.getConnection("user", "secret")).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void unwrap_ShouldReachThePrimaryPool() throws Exception {
+        // Never started, which unwrap to its own type does not need
+        try (HikariDataSource primary = new HikariDataSource()) {
+            ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(primary, checked(replica(0)));
+
+            assertThat(dataSource.unwrap(HikariDataSource.class)).isSameAs(primary);
+            assertThat(dataSource.unwrap(ReadWriteRoutingDataSource.class)).isSameAs(dataSource);
+            assertThat(dataSource.isWrapperFor(HikariDataSource.class)).isTrue();
+            assertThat(dataSource.isWrapperFor(ReadWriteRoutingDataSource.class)).isTrue();
+        }
+    }
+
+    @Test
+    void close_ShouldClosePrimaryPool() throws Exception {
+        HikariDataSource primary = new HikariDataSource();
+        Closeable dataSource = new ReadWriteRoutingDataSource(primary, checked(replica(0)));
+
+        dataSource.close();
+
+        assertThat(primary.isClosed()).isTrue();
+    }
+}
@@ -0,0 +1,135 @@
+package org.bomartin.tvbingo.jdbc;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingInterceptorTest {
+
+    private ReadReplicas replicas;
+    private ReplicaRoutingInterceptor interceptor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    // HandlerMethod looks methods up with getMethod, so they must be public
+    static class ShowsController {
+        @ReplicaReads
+        public void read() {
+        }
+
+        @ShowWrites
+        public void write() {
+        }
+
+        public void other() {
+        }
+    }
+
+    @ReplicaReads
+    static class ReadOnlyController {
+        public void read() {
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        replicas = new ReadReplicas(List.of(), 1000, 5000);
+        interceptor = new ReplicaRoutingInterceptor(replicas);
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+    }
+
+    @AfterEach
+    void clearRoute() {
+        ReadWriteRoutingDataSource.clearRoute();
+    }
+
+    private static HandlerMethod handler(Object controller, String method) throws NoSuchMethodException {
+        return new HandlerMethod(controller, method);
+    }
+
+    @Test
+    void preHandle_ForReplicaReads_ShouldRouteUntilCompletion() throws Exception {
+        HandlerMethod handler = handler(new ShowsController(), "read");
+
+        assertThat(interceptor.preHandle(request, response, handler)).isTrue();
+        assertThat(ReadWriteRoutingDataSource.isRoutedToReplica()).isTrue();
+
+        interceptor.afterCompletion(request, response, handler, null);
+        assertThat(ReadWriteRoutingDataSource.isRoutedToReplica()).isFalse();
+    }
+
+    @Test
+    void preHandle_ForReplicaReadsController_ShouldRoute() throws Exception {
+        interceptor.preHandle(request, response, handler(new ReadOnlyController(), "read"));
+
+        assertThat(ReadWriteRoutingDataSource.isRoutedToReplica()).isTrue();
+    }
+
+    @Test
+    void preHandle_WithStickyCookie_ShouldNotRoute() throws Exception {
+        request.setCookies(new Cookie(ReplicaRoutingInterceptor.COOKIE, "1"));
+
+        interceptor.preHandle(request, response, handler(new ShowsController(), "read"));
+
+        assertThat(ReadWriteRoutingDataSource.isRoutedToReplica()).isFalse();
+    }
+
+    @Test
+    void preHandle_AfterWriteOnThisInstance_ShouldNotRoute() throws Exception {
+        replicas.markWritten();
+
+        interceptor.preHandle(request, response, handler(new ShowsController(), "read"));
+
+        assertThat(ReadWriteRoutingDataSource.isRoutedToReplica()).isFalse();
+    }
+
+    @Test
+    void preHandle_ForShowWrites_ShouldSetStickyCookieAndStartWindow() throws Exception {
+        interceptor.preHandle(request, response, handler(new ShowsController(), "write"));
+
+        assertThat(ReadWriteRoutingDataSource.isRoutedToReplica()).isFalse();
+        assertThat(replicas.recentlyWritten()).isTrue();
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE))
+                .startsWith(ReplicaRoutingInterceptor.COOKIE + "=1")
+                .contains("Path=/api", "Max-Age=5", "HttpOnly", "SameSite=Lax");
+    }
+
+    @Test
+    void stickyCookie_ShouldRoundWindowUpToWholeSeconds() throws Exception {
+        interceptor = new ReplicaRoutingInterceptor(new ReadReplicas(List.of(), 1000, 1500));
+
+        interceptor.preHandle(request, response, handler(new ShowsController(), "write"));
+
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).contains("Max-Age=2");
+    }
+
+    @Test
+    void preHandle_ForOtherHandlers_ShouldNeitherRouteNorCountAsWrite() throws Exception {
+        interceptor.preHandle(request, response, handler(new ShowsController(), "other"));
+        interceptor.preHandle(request, response, new Object());
+
+        assertThat(ReadWriteRoutingDataSource.isRoutedToReplica()).isFalse();
+        assertThat(replicas.recentlyWritten()).isFalse();
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).isNull();
+    }
+
+    @Test
+    void afterConcurrentHandlingStarted_ShouldClearRoute() throws Exception {
+        HandlerMethod handler = handler(new ShowsController(), "read");
+        interceptor.preHandle(request, response, handler);
+
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+
+        assertThat(ReadWriteRoutingDataSource.isRoutedToReplica()).isFalse();
+    }
+}
@@ -275,6 +275,7 @@ class PerformanceTests {
         updateRequest.setShowTitle(testShow.getShowTitle());
         updateRequest.setGameTitle("Updated Game Title");
         updateRequest.setPhrases(Arrays.asList("updated1", "updated2"));
+        updateRequest.setVersion(testShow.getVersion());
 
         long putStart = System.currentTimeMillis();
         mockMvc.perform(put("/api/shows/{id}", testShow.getId())
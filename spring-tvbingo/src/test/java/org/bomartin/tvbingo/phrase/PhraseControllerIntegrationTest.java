@@ -0,0 +1,151 @@
+package org.bomartin.tvbingo.phrase;
+
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+import org.bomartin.tvbingo.model.Show;
+import org.bomartin.tvbingo.repository.ShowRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureEmbeddedDatabase(provider = DatabaseProvider.ZONKY)
+@ActiveProfiles("test")
+@Sql(scripts = "classpath:test-schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class PhraseControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Integer> phraseIds(Long showId) {
+        Integer[] ids = jdbcTemplate.queryForObject(
+                "SELECT phrase_ids FROM tvbingo_schema.shows WHERE id = ?",
+                (rs, rowNum) -> (Integer[]) rs.getArray(1).getArray(), showId);
+        return Arrays.asList(ids);
+    }
+
+    @Test
+    void save_ShouldInternPhrasesInOrder() {
+        Show show = showRepository.save(Show.builder()
+                .showTitle("The Office")
+                .phrases(Arrays.asList("That's what she said", "Bears. Beets."))
+                .build());
+
+        List<Integer> ids = phraseIds(show.getId());
+        assertThat(ids).hasSize(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT text FROM tvbingo_schema.phrases WHERE id = ?", String.class, ids.get(0)))
+                .isEqualTo("That's what she said");
+    }
+
+    @Test
+    void save_WithNearIdenticalPhrases_ShouldKeepEachSpellingAndGroupThem() {
+        Show first = showRepository.save(Show.builder()
+                .showTitle("Bluey")
+                .phrases(Arrays.asList("Come on in, guys!"))
+                .build());
+        Show second = showRepository.save(Show.builder()
+                .showTitle("Bandit")
+                .phrases(Arrays.asList("come on in   guys"))
+                .build());
+
+        assertThat(phraseIds(first.getId())).isNotEqualTo(phraseIds(second.getId()));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(DISTINCT normalized) FROM tvbingo_schema.phrases", Integer.class)).isEqualTo(1);
+        assertThat(showRepository.findById(second.getId()).orElseThrow().getPhrases())
+                .containsExactly("come on in   guys");
+    }
+
+    @Test
+    void save_WithPunctuationOnlyAndBlankPhrases_ShouldKeepOneIdPerPhrase() {
+        List<String> phrases = Arrays.asList("!!!", "???", "  ", "?? ?");
+        Show show = showRepository.save(Show.builder()
+                .showTitle("Batman")
+                .phrases(phrases)
+                .build());
+
+        assertThat(phraseIds(show.getId())).hasSize(4).doesNotHaveDuplicates();
+        assertThat(showRepository.findById(show.getId()).orElseThrow().getPhrases()).isEqualTo(phrases);
+    }
+
+    @Test
+    void save_WithRepeatedPhrase_ShouldInsertItOnce() {
+        showRepository.save(Show.builder()
+                .showTitle("Friends")
+                .phrases(Arrays.asList("How you doin'?", "How you doin'?"))
+                .build());
+        showRepository.save(Show.builder()
+                .showTitle("Joey")
+                .phrases(Arrays.asList("How you doin'?"))
+                .build());
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM tvbingo_schema.phrases", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void update_ShouldReinternChangedPhrases() {
+        Show show = showRepository.save(Show.builder()
+                .showTitle("Lost")
+                .phrases(Arrays.asList("We have to go back"))
+                .build());
+        show.setPhrases(Arrays.asList("Dude", "We have to go back!"));
+        showRepository.save(show);
+
+        List<Integer> ids = phraseIds(show.getId());
+        assertThat(ids).hasSize(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT text FROM tvbingo_schema.phrases WHERE id = ?", String.class, ids.get(1)))
+                .isEqualTo("We have to go back!");
+    }
+
+    @Test
+    void getPopularPhrases_ShouldCountDistinctShows() throws Exception {
+        Show first = showRepository.save(Show.builder()
+                .showTitle("Bluey")
+                .phrases(Arrays.asList("Come on in, guys!", "For real life"))
+                .build());
+        showRepository.save(Show.builder()
+                .showTitle("Bandit")
+                .phrases(Arrays.asList("come on in guys", "Come on in guys"))
+                .build());
+
+        mockMvc.perform(get("/api/phrases/popular").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].text").value("Come on in, guys!"))
+                .andExpect(jsonPath("$[0].showCount").value(2));
+
+        int id = phraseIds(first.getId()).get(0);
+        mockMvc.perform(get("/api/phrases/{id}/shows", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    void getPopularPhrases_WithLimitOutOfRange_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/phrases/popular").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -2,6 +2,7 @@ package org.bomartin.tvbingo.repository;
 
 import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
 import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+import org.bomartin.tvbingo.dto.ShowSummary;
 import org.bomartin.tvbingo.model.Show;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -174,4 +175,29 @@ class ShowRepositoryTest {
         // Then
         assertFalse(exists);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void whenFindAllSummaries_thenReturnPhraseCountsWithoutPhrases() {
+        // Given
+        Show withPhrases = showRepository.save(Show.builder()
+                .showTitle(generateUniqueTitle("Summary Show"))
+                .gameTitle("Summary Game")
+                .phrases(Arrays.asList("P1", "P2", "P3"))
+                .build());
+        Show withoutPhrases = showRepository.save(Show.builder()
+                .showTitle(generateUniqueTitle("Empty Summary Show"))
+                .build());
+
+        // When
+        List<ShowSummary> summaries = showRepository.findAllSummaries();
+
+        // Then
+        assertEquals(2, summaries.size());
+        assertEquals(withPhrases.getId(), summaries.get(0).getId());
+        assertEquals(withPhrases.getShowTitle(), summaries.get(0).getShowTitle());
+        assertEquals("Summary Game", summaries.get(0).getGameTitle());
+        assertEquals(3, summaries.get(0).getPhraseCount());
+        assertEquals(withoutPhrases.getId(), summaries.get(1).getId());
+        assertEquals(0, summaries.get(1).getPhraseCount());
+    }
+}
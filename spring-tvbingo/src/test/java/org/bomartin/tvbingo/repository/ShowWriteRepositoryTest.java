@@ -0,0 +1,122 @@
+package org.bomartin.tvbingo.repository;
+
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+import org.bomartin.tvbingo.model.Show;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@AutoConfigureEmbeddedDatabase(provider = DatabaseProvider.ZONKY)
+@ActiveProfiles("test")
+@Sql(scripts = "classpath:test-schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class ShowWriteRepositoryTest {
+
+    @Autowired
+    private ShowWriteRepository showWriteRepository;
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    private String generateUniqueTitle(String base) {
+        return base + "_" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    void whenInsertShow_thenShowIsCreatedWithIdAndVersion() {
+        // Given
+        Show show = Show.builder()
+                .showTitle(generateUniqueTitle("Inserted Show"))
+                .gameTitle("Game")
+                .phrases(Arrays.asList("Phrase 1", "Phrase 2"))
+                .build();
+
+        // When
+        Optional<Show> inserted = showWriteRepository.insert(show);
+
+        // Then
+        assertTrue(inserted.isPresent());
+        assertNotNull(inserted.get().getId());
+        assertEquals(0L, inserted.get().getVersion());
+        assertEquals(Arrays.asList("Phrase 1", "Phrase 2"), inserted.get().getPhrases());
+        assertTrue(showRepository.findById(inserted.get().getId()).isPresent());
+    }
+
+    @Test
+    void whenInsertDuplicateTitle_thenNothingIsInserted() {
+        // Given
+        String title = generateUniqueTitle("Taken Title");
+        showWriteRepository.insert(Show.builder().showTitle(title).build());
+
+        // When
+        Optional<Show> duplicate = showWriteRepository.insert(Show.builder().showTitle(title).build());
+
+        // Then
+        assertTrue(duplicate.isEmpty());
+        assertEquals(1, showRepository.count());
+    }
+
+    @Test
+    void whenUpdateWithCurrentVersion_thenVersionIsBumped() {
+        // Given
+        Show saved = showWriteRepository.insert(Show.builder()
+                .showTitle(generateUniqueTitle("Original"))
+                .build()).orElseThrow();
+        saved.setShowTitle(generateUniqueTitle("Renamed"));
+
+        // When
+        Optional<Show> updated = showWriteRepository.update(saved);
+
+        // Then
+        assertTrue(updated.isPresent());
+        assertEquals(saved.getShowTitle(), updated.get().getShowTitle());
+        assertEquals(saved.getVersion() + 1, updated.get().getVersion());
+    }
+
+    @Test
+    void whenUpdateWithStaleVersion_thenNothingIsUpdated() {
+        // Given
+        Show saved = showWriteRepository.insert(Show.builder()
+                .showTitle(generateUniqueTitle("Original"))
+                .build()).orElseThrow();
+        String originalTitle = saved.getShowTitle();
+        saved.setShowTitle(generateUniqueTitle("Renamed"));
+        saved.setVersion(saved.getVersion() + 5);
+
+        // When
+        Optional<Show> updated = showWriteRepository.update(saved);
+
+        // Then
+        assertTrue(updated.isEmpty());
+        assertEquals(originalTitle, showRepository.findById(saved.getId()).orElseThrow().getShowTitle());
+    }
+
+    @Test
+    void whenDeleteExistingShow_thenReturnsTrueAndShowIsGone() {
+        // Given
+        Show saved = showWriteRepository.insert(Show.builder()
+                .showTitle(generateUniqueTitle("To Delete"))
+                .build()).orElseThrow();
+
+        // When & Then
+        assertTrue(showWriteRepository.delete(saved.getId()));
+        assertTrue(showRepository.findById(saved.getId()).isEmpty());
+    }
+
+    @Test
+    void whenDeleteMissingShow_thenReturnsFalse() {
+        assertFalse(showWriteRepository.delete(999L));
+    }
+}
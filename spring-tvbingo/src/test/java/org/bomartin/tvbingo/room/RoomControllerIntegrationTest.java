@@ -0,0 +1,286 @@
+package org.bomartin.tvbingo.room;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+import org.bomartin.tvbingo.game.Game;
+import org.bomartin.tvbingo.game.GameService;
+import org.bomartin.tvbingo.model.Show;
+import org.bomartin.tvbingo.repository.ShowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureEmbeddedDatabase(provider = DatabaseProvider.ZONKY)
+@ActiveProfiles("test")
+@Sql(scripts = "classpath:test-schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class RoomControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Show show;
+    private long roomId;
+    private String hostKey;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        List<String> phrases = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            phrases.add("Phrase " + i);
+        }
+        show = showRepository.save(Show.builder().showTitle("Room Show").phrases(phrases).build());
+
+        String json = mockMvc.perform(post("/api/rooms")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"showId\": " + show.getId() + "}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.showId").value(show.getId()))
+                .andExpect(jsonPath("$.lastEventId").value(0))
+                .andExpect(jsonPath("$.hostKey").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode room = objectMapper.readTree(json);
+        roomId = room.get("id").asLong();
+        hostKey = room.get("hostKey").asText();
+    }
+
+    private ResultActions call(String phrase, String key) throws Exception {
+        var request = post("/api/rooms/{id}/calls", roomId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"phrase\": \"" + phrase + "\"}");
+        if (key != null) {
+            request.header(RoomController.HOST_KEY_HEADER, key);
+        }
+        return mockMvc.perform(request);
+    }
+
+    private ResultActions join(Long gameId) throws Exception {
+        return mockMvc.perform(post("/api/rooms/{id}/members", roomId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"gameId\": " + gameId + "}"));
+    }
+
+    private String joinAs(Long gameId) throws Exception {
+        String json = join(gameId)
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(json).get("memberKey").asText();
+    }
+
+    private ResultActions claim(String memberKey) throws Exception {
+        var request = post("/api/rooms/{id}/claims", roomId);
+        if (memberKey != null) {
+            request.header(RoomController.MEMBER_KEY_HEADER, memberKey);
+        }
+        return mockMvc.perform(request);
+    }
+
+    @Test
+    void createRoom_WhenShowDoesNotExist_ShouldReturn404() throws Exception {
+        mockMvc.perform(post("/api/rooms")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"showId\": 99999}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getRoom_ShouldNotExposeHostKey() throws Exception {
+        mockMvc.perform(get("/api/rooms/{id}", roomId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hostKey").doesNotExist())
+                .andExpect(jsonPath("$.memberCount").value(0));
+    }
+
+    @Test
+    void callPhrase_AsHost_ShouldReturnEventAndRecordCall() throws Exception {
+        call("Phrase 3", hostKey)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.type").value("PHRASE_CALLED"))
+                .andExpect(jsonPath("$.phrase").value("Phrase 3"));
+
+        mockMvc.perform(get("/api/rooms/{id}", roomId))
+                .andExpect(jsonPath("$.calledPhrases[0]").value("Phrase 3"))
+                .andExpect(jsonPath("$.lastEventId").value(1));
+    }
+
+    @Test
+    void callPhrase_WithoutHostKey_ShouldReturn403() throws Exception {
+        call("Phrase 3", null).andExpect(status().isForbidden());
+        call("Phrase 3", "not-the-key").andExpect(status().isForbidden());
+    }
+
+    @Test
+    void callPhrase_Invalid_ShouldReturn400() throws Exception {
+        call("Not a phrase", hostKey)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Phrase is not in this show"));
+
+        call("Phrase 1", hostKey).andExpect(status().isOk());
+        call("Phrase 1", hostKey)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Phrase has already been called"));
+    }
+
+    @Test
+    void claimBingo_ShouldOnlyCountCalledPhrases() throws Exception {
+        Game game = gameService.createGame(show.getId(), 42L, null).orElseThrow();
+        for (int cell = 0; cell < 5; cell++) {
+            gameService.markCell(game.getId(), cell, true);
+        }
+        String memberKey = joinAs(game.getId());
+
+        // Top row is marked, but none of it has been called yet
+        claim(memberKey)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Claim is not a bingo"));
+
+        for (int cell = 0; cell < 5; cell++) {
+            call(game.getPhrases().get(cell), hostKey).andExpect(status().isOk());
+        }
+        claim(memberKey)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.type").value("BINGO_CLAIMED"))
+                .andExpect(jsonPath("$.gameId").value(game.getId()));
+    }
+
+    @Test
+    void claimBingo_Twice_ShouldReturnTheSameEventWithoutBroadcastingAgain() throws Exception {
+        Game game = gameService.createGame(show.getId(), 42L, null).orElseThrow();
+        for (int cell = 0; cell < 5; cell++) {
+            gameService.markCell(game.getId(), cell, true);
+            call(game.getPhrases().get(cell), hostKey).andExpect(status().isOk());
+        }
+        String memberKey = joinAs(game.getId());
+
+        claim(memberKey).andExpect(status().isOk()).andExpect(jsonPath("$.id").value(6));
+        claim(memberKey).andExpect(status().isOk()).andExpect(jsonPath("$.id").value(6));
+
+        mockMvc.perform(get("/api/rooms/{id}", roomId))
+                .andExpect(jsonPath("$.lastEventId").value(6));
+    }
+
+    @Test
+    void claimBingo_WithoutMemberKey_ShouldReturn403() throws Exception {
+        Game game = gameService.createGame(show.getId(), 42L, null).orElseThrow();
+        joinAs(game.getId());
+
+        claim(null).andExpect(status().isForbidden());
+        claim("not-a-member").andExpect(status().isForbidden());
+    }
+
+    @Test
+    void joinRoom_ShouldReturnMemberKeyOnce() throws Exception {
+        Game game = gameService.createGame(show.getId(), 42L, null).orElseThrow();
+
+        join(game.getId())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(roomId))
+                .andExpect(jsonPath("$.memberKey").isNotEmpty())
+                .andExpect(jsonPath("$.hostKey").doesNotExist());
+
+        // Nobody else can take over a game that has joined
+        join(game.getId())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Game has already joined this room"));
+    }
+
+    @Test
+    void joinRoom_WhenGameIsForAnotherShow_ShouldReturn400() throws Exception {
+        Show other = showRepository.save(Show.builder().showTitle("Other Show").phrases(show.getPhrases()).build());
+        Game game = gameService.createGame(other.getId(), 42L, null).orElseThrow();
+
+        join(game.getId())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Game is not for this room's show"));
+    }
+
+    @Test
+    void joinRoom_WhenGameDoesNotExist_ShouldReturn404() throws Exception {
+        join(99999L).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void closeRoom_AsHost_ShouldRemoveRoom() throws Exception {
+        mockMvc.perform(delete("/api/rooms/{id}", roomId))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(delete("/api/rooms/{id}", roomId).header(RoomController.HOST_KEY_HEADER, hostKey))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/rooms/{id}", roomId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void streamEvents_WithLastEventId_ShouldReplayMissedEventsAsSse() throws Exception {
+        call("Phrase 1", hostKey);
+        call("Phrase 2", hostKey);
+
+        MvcResult result = mockMvc.perform(get("/api/rooms/{id}/events", roomId)
+                        .header("Last-Event-ID", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        call("Phrase 3", hostKey);
+        roomService.closeRoom(roomService.getRoom(roomId).orElseThrow());
+
+        String body = awaitContaining(result, "ROOM_CLOSED");
+        assertThat(body).startsWith(":connected");
+        assertThat(body).contains("retry:");
+        assertThat(body).doesNotContain("Phrase 1");
+        assertThat(body).contains("id:2\ndata:{");
+        assertThat(body).contains("\"phrase\":\"Phrase 2\"");
+        assertThat(body).contains("\"phrase\":\"Phrase 3\"");
+        assertThat(body.indexOf("Phrase 2")).isLessThan(body.indexOf("Phrase 3"));
+    }
+
+    @Test
+    void streamEvents_WhenRoomDoesNotExist_ShouldReturn404() throws Exception {
+        mockMvc.perform(get("/api/rooms/{id}/events", 99999L))
+                .andExpect(status().isNotFound());
+    }
+
+    private static String awaitContaining(MvcResult result, String text) throws Exception {
+        String body = "";
+        for (int i = 0; i < 100 && !body.contains(text); i++) {
+            Thread.sleep(50);
+            body = result.getResponse().getContentAsString();
+        }
+        assertThat(body).contains(text);
+        return body;
+    }
+}
@@ -0,0 +1,234 @@
+package org.bomartin.tvbingo.room;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoomTest {
+
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        room = new Room(1L, 10L, "key", List.of("A", "B", "C", "D", "E"),
+                objectMapper.writerFor(RoomEvent.class), 3);
+    }
+
+    /** Records what it is sent; optionally stalls on every write until released. */
+    private static class RecordingSubscriber extends RoomSubscriber {
+        final BlockingQueue<RoomMessage> received = new LinkedBlockingQueue<>();
+        final CountDownLatch release;
+        final CountDownLatch disconnected = new CountDownLatch(1);
+        final AtomicInteger heartbeats = new AtomicInteger();
+
+        RecordingSubscriber(int capacity, boolean stalled) {
+            super(capacity);
+            this.release = new CountDownLatch(stalled ? 1 : 0);
+        }
+
+        @Override
+        protected void write(RoomMessage message) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            received.add(message);
+        }
+
+        @Override
+        protected void writeHeartbeat() {
+            heartbeats.incrementAndGet();
+        }
+
+        @Override
+        protected void disconnect() {
+            disconnected.countDown();
+        }
+    }
+
+    @Test
+    void callPhrase_ShouldDeliverNumberedEventsInOrder() throws Exception {
+        RecordingSubscriber member = new RecordingSubscriber(16, false);
+        room.subscribe(member);
+
+        room.callPhrase("A");
+        room.callPhrase("B");
+
+        RoomMessage first = member.received.poll(5, TimeUnit.SECONDS);
+        RoomMessage second = member.received.poll(5, TimeUnit.SECONDS);
+        assertThat(first.event().getId()).isEqualTo(1);
+        assertThat(first.event().getPhrase()).isEqualTo("A");
+        assertThat(first.json()).contains("\"PHRASE_CALLED\"");
+        assertThat(second.event().getId()).isEqualTo(2);
+        assertThat(room.getCalledPhrases()).containsExactly("A", "B");
+    }
+
+    @Test
+    void callPhrase_Twice_ShouldThrow() {
+        room.callPhrase("A");
+
+        assertThatThrownBy(() -> room.callPhrase("A"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Phrase has already been called");
+        assertThat(room.getLastEventId()).isEqualTo(1);
+    }
+
+    @Test
+    void claimBingo_Twice_ShouldBroadcastOnce() throws Exception {
+        RecordingSubscriber member = new RecordingSubscriber(16, false);
+        room.subscribe(member);
+
+        RoomEvent first = room.claimBingo(7L);
+        RoomEvent second = room.claimBingo(7L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(room.getLastEventId()).isEqualTo(1);
+        assertThat(member.received.poll(5, TimeUnit.SECONDS).event().getGameId()).isEqualTo(7L);
+        assertThat(member.received.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void join_ShouldBindOneMemberKeyPerGame() {
+        String memberKey = room.join(7L);
+
+        assertThat(room.getMemberGame(memberKey)).contains(7L);
+        assertThat(room.getMemberGame("unknown")).isEmpty();
+        assertThatThrownBy(() -> room.join(7L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Game has already joined this room");
+    }
+
+    @Test
+    void broadcast_WithStalledMember_ShouldDisconnectItWithoutDelayingOthers() throws Exception {
+        RecordingSubscriber slow = new RecordingSubscriber(2, true);
+        RecordingSubscriber fast = new RecordingSubscriber(16, false);
+        room.subscribe(slow);
+        room.subscribe(fast);
+
+        for (String phrase : List.of("A", "B", "C", "D")) {
+            room.callPhrase(phrase);
+        }
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(fast.received.poll(5, TimeUnit.SECONDS)).isNotNull();
+        }
+        assertThat(slow.isClosed()).isTrue();
+
+        slow.release.countDown();
+        assertThat(slow.disconnected.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(room.getMemberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void subscribe_WithLastEventId_ShouldReplayOnlyMissedEvents() throws Exception {
+        room.callPhrase("A");
+        room.callPhrase("B");
+        room.callPhrase("C");
+
+        RecordingSubscriber returning = new RecordingSubscriber(16, false);
+        room.subscribe(returning, 1L);
+        room.callPhrase("D");
+
+        assertThat(returning.received.poll(5, TimeUnit.SECONDS).event().getPhrase()).isEqualTo("B");
+        assertThat(returning.received.poll(5, TimeUnit.SECONDS).event().getPhrase()).isEqualTo("C");
+        assertThat(returning.received.poll(5, TimeUnit.SECONDS).event().getPhrase()).isEqualTo("D");
+        assertThat(returning.received.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void subscribe_WhenMissedEventsAreNoLongerBuffered_ShouldSendResync() throws Exception {
+        for (String phrase : List.of("A", "B", "C", "D", "E")) {
+            room.callPhrase(phrase);
+        }
+
+        // Event 2 has been overwritten in the three-event buffer
+        RecordingSubscriber returning = new RecordingSubscriber(16, false);
+        room.subscribe(returning, 1L);
+
+        RoomEvent resync = returning.received.poll(5, TimeUnit.SECONDS).event();
+        assertThat(resync.getType()).isEqualTo(RoomEvent.Type.RESYNC);
+        assertThat(resync.getId()).isEqualTo(5);
+        assertThat(returning.received.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void heartbeat_ShouldOnlyReachIdleMembersAndNeverQueueUp() throws Exception {
+        RecordingSubscriber idle = new RecordingSubscriber(16, false);
+        RecordingSubscriber stalled = new RecordingSubscriber(16, true);
+        room.subscribe(idle);
+        room.subscribe(stalled);
+        room.callPhrase("A");
+        room.callPhrase("B");
+        assertThat(idle.received.poll(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(idle.received.poll(5, TimeUnit.SECONDS)).isNotNull();
+
+        room.heartbeat(0);
+        room.heartbeat(0);
+
+        // The stalled member still has an event queued, so it gets no heartbeat
+        stalled.release.countDown();
+        assertThat(stalled.received.poll(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(stalled.received.poll(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(stalled.heartbeats).hasValue(0);
+        for (int i = 0; i < 100 && idle.heartbeats.get() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(idle.heartbeats.get()).isBetween(1, 2);
+
+        room.heartbeat(60_000);
+        assertThat(idle.heartbeats.get()).isBetween(1, 2);
+    }
+
+    @Test
+    void close_ShouldSendClosedEventAndRefuseNewMembers() throws Exception {
+        RecordingSubscriber member = new RecordingSubscriber(16, false);
+        room.subscribe(member);
+
+        room.close();
+
+        assertThat(member.received.poll(5, TimeUnit.SECONDS).event().getType())
+                .isEqualTo(RoomEvent.Type.ROOM_CLOSED);
+        assertThat(member.disconnected.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(room.subscribe(new RecordingSubscriber(16, false))).isFalse();
+        assertThatThrownBy(() -> room.callPhrase("B")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void closeIfIdle_WithMember_ShouldKeepRoomOpen() {
+        room.subscribe(new RecordingSubscriber(16, false));
+
+        assertThat(room.closeIfIdle(System.currentTimeMillis() + 60_000, 1_000)).isFalse();
+        assertThat(room.isClosed()).isFalse();
+    }
+
+    @Test
+    void closeIfIdle_WithRecentEvent_ShouldKeepRoomOpen() {
+        room.callPhrase("A");
+
+        assertThat(room.closeIfIdle(System.currentTimeMillis(), 60_000)).isFalse();
+    }
+
+    @Test
+    void closeIfIdle_WhenEmptyAndQuietPastTimeout_ShouldClose() {
+        RecordingSubscriber member = new RecordingSubscriber(16, false);
+        room.subscribe(member);
+        room.unsubscribe(member);
+
+        assertThat(room.closeIfIdle(System.currentTimeMillis() + 60_000, 1_000)).isTrue();
+        assertThat(room.isClosed()).isTrue();
+    }
+}
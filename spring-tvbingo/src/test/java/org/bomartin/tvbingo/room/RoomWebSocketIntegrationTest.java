@@ -0,0 +1,110 @@
+package org.bomartin.tvbingo.room;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+import org.bomartin.tvbingo.model.Show;
+import org.bomartin.tvbingo.repository.ShowRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end check of room events over a real WebSocket connection.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureEmbeddedDatabase(provider = DatabaseProvider.ZONKY)
+@ActiveProfiles("test")
+@Sql(scripts = "classpath:test-schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class RoomWebSocketIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /** Collects text frames and the close code. */
+    private static class Member implements WebSocket.Listener {
+        final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        final CompletableFuture<Integer> closeCode = new CompletableFuture<>();
+
+        @Override
+        public CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+            messages.add(data.toString());
+            socket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket socket, int statusCode, String reason) {
+            closeCode.complete(statusCode);
+            return null;
+        }
+    }
+
+    private WebSocket connect(long roomId, Member member) {
+        return HttpClient.newHttpClient().newWebSocketBuilder()
+                .buildAsync(URI.create("ws://localhost:" + port + "/ws/rooms/" + roomId), member)
+                .join();
+    }
+
+    @Test
+    void members_ShouldReceiveCalledPhrasesAndClose() throws Exception {
+        Show show = showRepository.save(Show.builder()
+                .showTitle("Socket Show")
+                .phrases(List.of("One", "Two"))
+                .build());
+        Room room = roomService.createRoom(show.getId()).orElseThrow();
+        Member first = new Member();
+        Member second = new Member();
+        connect(room.getId(), first);
+        connect(room.getId(), second);
+        for (int i = 0; i < 50 && room.getMemberCount() < 2; i++) {
+            Thread.sleep(20);
+        }
+
+        roomService.callPhrase(room, "Two");
+        roomService.closeRoom(room);
+
+        for (Member member : List.of(first, second)) {
+            JsonNode called = objectMapper.readTree(member.messages.poll(5, TimeUnit.SECONDS));
+            assertThat(called.get("id").asLong()).isEqualTo(1);
+            assertThat(called.get("type").asText()).isEqualTo("PHRASE_CALLED");
+            assertThat(called.get("phrase").asText()).isEqualTo("Two");
+            JsonNode closed = objectMapper.readTree(member.messages.poll(5, TimeUnit.SECONDS));
+            assertThat(closed.get("type").asText()).isEqualTo("ROOM_CLOSED");
+            assertThat(member.closeCode.get(5, TimeUnit.SECONDS)).isEqualTo(1001);
+        }
+    }
+
+    @Test
+    void connect_ToUnknownRoom_ShouldBeClosed() throws Exception {
+        Member member = new Member();
+        connect(99999L, member);
+
+        assertThat(member.closeCode.get(5, TimeUnit.SECONDS)).isEqualTo(4404);
+    }
+}
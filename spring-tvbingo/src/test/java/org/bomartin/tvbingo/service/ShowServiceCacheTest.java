@@ -0,0 +1,150 @@
+package org.bomartin.tvbingo.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+import org.bomartin.tvbingo.config.CacheConfig;
+import org.bomartin.tvbingo.model.Show;
+import org.bomartin.tvbingo.repository.ShowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the read-through show cache: reads are served from memory after the
+ * first load, and service writes evict the affected entries. The test profile
+ * disables caching, so it is switched back on for this class only.
+ */
+@SpringBootTest(properties = "spring.cache.type=caffeine")
+@AutoConfigureEmbeddedDatabase(provider = DatabaseProvider.ZONKY)
+@ActiveProfiles("test")
+@Sql(scripts = "classpath:test-schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class ShowServiceCacheTest {
+
+    @Autowired
+    private ShowService showService;
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Show savedShow;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        savedShow = showRepository.save(Show.builder()
+                .showTitle("Cached Show")
+                .gameTitle("Cached Game")
+                .phrases(Arrays.asList("Phrase 1", "Phrase 2"))
+                .build());
+    }
+
+    @Test
+    void getShow_SecondCall_ShouldBeServedFromCache() {
+        showService.getShow(savedShow.getId());
+
+        // Change the row behind the cache's back; a cache hit still sees the old title
+        jdbcTemplate.update("UPDATE tvbingo_schema.shows SET show_title = 'Changed' WHERE id = ?",
+                savedShow.getId());
+
+        assertThat(showService.getShow(savedShow.getId()))
+                .get()
+                .extracting(Show::getShowTitle)
+                .isEqualTo("Cached Show");
+    }
+
+    @Test
+    void getShow_WhenMissing_ShouldNotCacheAbsence() {
+        long missingId = savedShow.getId() + 1;
+        assertThat(showService.getShow(missingId)).isEmpty();
+
+        assertThat(cacheManager.getCache(CacheConfig.SHOWS_CACHE).get(missingId)).isNull();
+    }
+
+    @Test
+    void updateShow_ShouldEvictCachedShow() {
+        showService.getShow(savedShow.getId());
+
+        Show update = Show.builder()
+                .id(savedShow.getId())
+                .showTitle("Updated Show")
+                .phrases(Arrays.asList("Phrase 1"))
+                .version(savedShow.getVersion())
+                .build();
+        showService.updateShow(update);
+
+        assertThat(showService.getShow(savedShow.getId()))
+                .get()
+                .extracting(Show::getShowTitle)
+                .isEqualTo("Updated Show");
+    }
+
+    @Test
+    void deleteShow_ShouldEvictCachedShow() {
+        showService.getShow(savedShow.getId());
+
+        showService.deleteShow(savedShow.getId());
+
+        assertThat(showService.getShow(savedShow.getId())).isEmpty();
+    }
+
+    @Test
+    void createShow_ShouldEvictCachedLists() {
+        assertThat(showService.getShowSummaries()).hasSize(1);
+
+        showService.createShow(Show.builder().showTitle("Another Show").build());
+
+        assertThat(showService.getShowSummaries()).hasSize(2);
+    }
+
+    @Test
+    void createShow_ShouldEvictCachedListVersion() {
+        String before = showService.getShowListVersion().getEtag();
+
+        showService.createShow(Show.builder().showTitle("Another Show").build());
+
+        assertThat(showService.getShowListVersion().getEtag()).isNotEqualTo(before);
+    }
+
+    @Test
+    void versionCache_ShouldExpireSoonerThanTheOtherCaches() {
+        CaffeineCache versions = (CaffeineCache) cacheManager.getCache(CacheConfig.SHOW_VERSIONS_CACHE);
+
+        assertThat(versions.getNativeCache().policy().expireAfterWrite().orElseThrow().getExpiresAfter())
+                .isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void cacheStatistics_ShouldBePublishedAsMetrics() {
+        showService.getShow(savedShow.getId());
+        showService.getShow(savedShow.getId());
+
+        FunctionCounter hits = meterRegistry.find("cache.gets")
+                .tag("cache", CacheConfig.SHOWS_CACHE)
+                .tag("result", "hit")
+                .functionCounter();
+        assertThat(hits).isNotNull();
+        assertThat(hits.count()).isGreaterThanOrEqualTo(1);
+    }
+}
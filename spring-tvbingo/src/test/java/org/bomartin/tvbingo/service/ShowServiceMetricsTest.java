@@ -0,0 +1,78 @@
+package org.bomartin.tvbingo.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+import org.bomartin.tvbingo.model.Show;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that service and repository calls are timed and published with
+ * histogram buckets on the Prometheus endpoint. Metrics export is off in
+ * tests by default, so it is switched on for this class only.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@AutoConfigureEmbeddedDatabase(provider = DatabaseProvider.ZONKY)
+@ActiveProfiles("test")
+@Sql(scripts = "classpath:test-schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class ShowServiceMetricsTest {
+
+    @Autowired
+    private ShowService showService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private long count(String name, String method) {
+        Timer timer = meterRegistry.find(name).tag("method", method).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    @Test
+    void serviceAndRepositoryCalls_ShouldBeTimedPerMethod() {
+        long creates = count("tvbingo.shows.service", "createShow");
+        long inserts = count("tvbingo.repository", "insert");
+        long finds = count("spring.data.repository.invocations", "findById");
+
+        Show created = showService.createShow(Show.builder()
+                .showTitle("Timed Show")
+                .phrases(Arrays.asList("Phrase 1"))
+                .build());
+        showService.getShow(created.getId());
+
+        assertThat(count("tvbingo.shows.service", "createShow")).isEqualTo(creates + 1);
+        assertThat(count("tvbingo.repository", "insert")).isEqualTo(inserts + 1);
+        assertThat(count("spring.data.repository.invocations", "findById")).isGreaterThan(finds);
+    }
+
+    @Test
+    void prometheusEndpoint_ShouldPublishHistogramBuckets() throws Exception {
+        showService.getShowSummaries();
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("tvbingo_shows_service_seconds_bucket")))
+                .andExpect(content().string(containsString("method=\"getShowSummaries\"")));
+    }
+}
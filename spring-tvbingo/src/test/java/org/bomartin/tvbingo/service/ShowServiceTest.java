@@ -1,22 +1,33 @@
 package org.bomartin.tvbingo.service;
 
+import org.bomartin.tvbingo.dto.ShowBatchResult;
+import org.bomartin.tvbingo.dto.ShowVersion;
 import org.bomartin.tvbingo.model.Show;
 import org.bomartin.tvbingo.repository.ShowRepository;
+import org.bomartin.tvbingo.repository.ShowStreamRepository;
+import org.bomartin.tvbingo.repository.ShowWriteRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -27,6 +38,15 @@ class ShowServiceTest {
     @Mock
     private ShowRepository showRepository;
 
+    @Mock
+    private ShowStreamRepository showStreamRepository;
+
+    @Mock
+    private ShowWriteRepository showWriteRepository;
+
+    @Mock
+    private ShowTitleIndex showTitleIndex;
+
     @InjectMocks
     private ShowService showService;
 
@@ -44,28 +64,43 @@ class ShowServiceTest {
     }
 
     @Test
-    void createShow_ShouldSaveAndReturnShow() {
-        when(showRepository.existsByShowTitle(testShow.getShowTitle())).thenReturn(false);
-        when(showRepository.save(any(Show.class))).thenReturn(testShow);
+    void createShow_ShouldInsertAndReturnShow() {
+        when(showWriteRepository.insert(testShow)).thenReturn(Optional.of(testShow));
 
         Show result = showService.createShow(testShow);
 
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(testShow.getId());
         assertThat(result.getShowTitle()).isEqualTo(testShow.getShowTitle());
-        verify(showRepository).existsByShowTitle(testShow.getShowTitle());
-        verify(showRepository).save(testShow);
+        verify(showWriteRepository).insert(testShow);
+        verify(showTitleIndex).put(testShow.getId(), testShow.getShowTitle());
+        // Uniqueness is enforced by the insert itself; no separate lookup
+        verify(showRepository, never()).existsByShowTitle(any());
+    }
+
+    @Test
+    void createShow_InsideTransaction_ShouldIndexOnlyAfterCommit() {
+        when(showWriteRepository.insert(testShow)).thenReturn(Optional.of(testShow));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            showService.createShow(testShow);
+            verify(showTitleIndex, never()).put(any(Long.class), any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(showTitleIndex).put(testShow.getId(), testShow.getShowTitle());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
     void createShow_WithDuplicateTitle_ShouldThrowException() {
-        when(showRepository.existsByShowTitle(testShow.getShowTitle())).thenReturn(true);
+        when(showWriteRepository.insert(testShow)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> showService.createShow(testShow))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Show title must be unique");
 
-        verify(showRepository).existsByShowTitle(testShow.getShowTitle());
         verify(showRepository, never()).save(any());
     }
 
@@ -92,34 +127,31 @@ class ShowServiceTest {
     }
 
     @Test
-    void getAllShows_ShouldReturnAllShows() {
-        Show secondShow = Show.builder()
-                .id(2L)
-                .showTitle("Second Show")
-                .build();
-        List<Show> shows = Arrays.asList(testShow, secondShow);
-        when(showRepository.findAll()).thenReturn(shows);
-
-        List<Show> result = showService.getAllShows();
-
-        assertThat(result)
-                .hasSize(2)
-                .containsExactlyInAnyOrder(testShow, secondShow);
-        verify(showRepository).findAll();
+    @SuppressWarnings("unchecked")
+    void streamShows_ShouldPassEachShowToCallback() {
+        doAnswer(invocation -> {
+            Consumer<Show> action = invocation.getArgument(2);
+            action.accept(testShow);
+            return null;
+        }).when(showStreamRepository).forEachShow(eq(5L), eq(10), any(Consumer.class));
+
+        List<Show> received = new ArrayList<>();
+        showService.streamShows(5L, 10, received::add);
+
+        assertThat(received).containsExactly(testShow);
+        verify(showStreamRepository).forEachShow(eq(5L), eq(10), any(Consumer.class));
     }
 
     @Test
     void updateShow_WithValidId_ShouldUpdateAndReturnShow() {
-        when(showRepository.existsByShowTitleExceptId(testShow.getShowTitle(), testShow.getId())).thenReturn(false);
-        when(showRepository.save(any(Show.class))).thenReturn(testShow);
+        testShow.setVersion(3L);
+        when(showWriteRepository.update(testShow)).thenReturn(Optional.of(testShow));
 
-        Show result = showService.updateShow(testShow);
+        Optional<Show> result = showService.updateShow(testShow);
 
-        assertThat(result).isNotNull();
-        assertThat(result.getId()).isEqualTo(testShow.getId());
-        assertThat(result.getShowTitle()).isEqualTo(testShow.getShowTitle());
-        verify(showRepository).existsByShowTitleExceptId(testShow.getShowTitle(), testShow.getId());
-        verify(showRepository).save(testShow);
+        assertThat(result).contains(testShow);
+        verify(showWriteRepository).update(testShow);
+        verify(showRepository, never()).save(any());
     }
 
     @Test
@@ -132,27 +164,123 @@ class ShowServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Show ID must not be null for updates");
 
-        verify(showRepository, never()).save(any());
+        verify(showWriteRepository, never()).update(any());
+    }
+
+    @Test
+    void updateShow_WhenShowDoesNotExist_ShouldReturnEmpty() {
+        testShow.setVersion(3L);
+        when(showWriteRepository.update(testShow)).thenReturn(Optional.empty());
+        when(showRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        assertThat(showService.updateShow(testShow)).isEmpty();
     }
 
     @Test
-    void updateShow_WithDuplicateTitle_ShouldThrowException() {
-        when(showRepository.existsByShowTitleExceptId(testShow.getShowTitle(), testShow.getId())).thenReturn(true);
+    void updateShow_WithStaleVersion_ShouldThrowOptimisticLockingFailure() {
+        testShow.setVersion(3L);
+        when(showWriteRepository.update(testShow)).thenReturn(Optional.empty());
+        when(showRepository.findVersionById(1L))
+                .thenReturn(Optional.of(ShowVersion.builder().etag("4").build()));
 
+        assertThatThrownBy(() -> showService.updateShow(testShow))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void updateShow_WithoutVersion_ShouldThrowException() {
         assertThatThrownBy(() -> showService.updateShow(testShow))
                 .isInstanceOf(IllegalArgumentException.class)
-                .hasMessage("Show title must be unique");
+                .hasMessage("Show version must not be null for updates");
 
-        verify(showRepository).existsByShowTitleExceptId(testShow.getShowTitle(), testShow.getId());
-        verify(showRepository, never()).save(any());
+        verify(showWriteRepository, never()).update(any());
     }
 
     @Test
     void deleteShow_ShouldDeleteShow() {
-        doNothing().when(showRepository).deleteById(1L);
+        when(showWriteRepository.delete(1L)).thenReturn(true);
+
+        boolean deleted = showService.deleteShow(1L);
+
+        assertThat(deleted).isTrue();
+        verify(showTitleIndex).remove(1L);
+        verify(showWriteRepository).delete(1L);
+        verify(showRepository, never()).findById(any());
+    }
 
-        showService.deleteShow(1L);
+    @Test
+    void deleteShow_WhenShowDoesNotExist_ShouldReturnFalse() {
+        when(showWriteRepository.delete(1L)).thenReturn(false);
+
+        assertThat(showService.deleteShow(1L)).isFalse();
+    }
+
+    @Test
+    void applyBatch_ShouldCheckAllTitlesInOneQueryAndSkipDuplicates() {
+        Show taken = Show.builder().showTitle("Taken").build();
+        Show fresh = Show.builder().showTitle("Fresh").build();
+        Show repeated = Show.builder().showTitle("Fresh").build();
+        when(showWriteRepository.findTitleOwners(any())).thenReturn(Map.of("Taken", 7L));
+
+        ShowBatchResult result = showService.applyBatch(List.of(taken, fresh, repeated), List.of(), List.of());
+
+        assertThat(result.getCreated()).extracting(ShowBatchResult.Item::getStatus).containsExactly(
+                ShowBatchResult.Status.DUPLICATE_TITLE,
+                ShowBatchResult.Status.CREATED,
+                ShowBatchResult.Status.DUPLICATE_TITLE);
+        verify(showWriteRepository).findTitleOwners(any());
+        verify(showWriteRepository).insertAll(List.of(fresh));
+        verify(showRepository, never()).existsByShowTitle(any());
+    }
 
-        verify(showRepository).deleteById(1L);
+    @Test
+    void applyBatch_ShouldReportMissingAndStaleUpdatesAndDeletes() {
+        Show current = Show.builder().id(1L).showTitle("One").version(3L).build();
+        Show stale = Show.builder().id(2L).showTitle("Two").version(1L).build();
+        Show missing = Show.builder().id(3L).showTitle("Three").build();
+        when(showWriteRepository.deleteAll(List.of(4L, 5L))).thenReturn(new int[] {1, 0});
+        when(showWriteRepository.findTitleOwners(any())).thenReturn(Map.of("One", 1L));
+        when(showWriteRepository.lockForUpdate(List.of(1L, 2L, 3L))).thenReturn(Map.of(
+                1L, Show.builder().id(1L).showTitle("One").version(3L).build(),
+                2L, Show.builder().id(2L).showTitle("Two").version(5L).build()));
+        when(showWriteRepository.updateAll(List.of(current))).thenReturn(new int[] {1});
+        when(showWriteRepository.findVersions(List.of(1L))).thenReturn(Map.of(1L, 4L));
+
+        ShowBatchResult result = showService.applyBatch(List.of(), List.of(current, stale, missing), List.of(4L, 5L));
+
+        assertThat(result.getDeleted()).extracting(ShowBatchResult.Item::getStatus).containsExactly(
+                ShowBatchResult.Status.DELETED, ShowBatchResult.Status.NOT_FOUND);
+        assertThat(result.getUpdated()).extracting(ShowBatchResult.Item::getStatus).containsExactly(
+                ShowBatchResult.Status.UPDATED,
+                ShowBatchResult.Status.STALE_VERSION,
+                ShowBatchResult.Status.NOT_FOUND);
+        assertThat(result.getUpdated().get(0).getVersion()).isEqualTo(4L);
+    }
+
+    @Test
+    void applyBatch_ShouldFreeRenamedTitlesAndNotClaimTitlesForFailingUpdates() {
+        Show rename = Show.builder().id(1L).showTitle("Y").version(3L).build();
+        Show stale = Show.builder().id(2L).showTitle("Z").version(1L).build();
+        Show missing = Show.builder().id(3L).showTitle("W").build();
+        Show reuse = Show.builder().showTitle("X").build();
+        Show afterStale = Show.builder().showTitle("Z").build();
+        Show afterMissing = Show.builder().showTitle("W").build();
+        when(showWriteRepository.findTitleOwners(any())).thenReturn(Map.of("X", 1L));
+        when(showWriteRepository.lockForUpdate(List.of(1L, 2L, 3L))).thenReturn(Map.of(
+                1L, Show.builder().id(1L).showTitle("X").version(3L).build(),
+                2L, Show.builder().id(2L).showTitle("Two").version(5L).build()));
+        when(showWriteRepository.updateAll(List.of(rename))).thenReturn(new int[] {1});
+        when(showWriteRepository.findVersions(List.of(1L))).thenReturn(Map.of(1L, 4L));
+
+        ShowBatchResult result = showService.applyBatch(
+                List.of(reuse, afterStale, afterMissing), List.of(rename, stale, missing), List.of());
+
+        assertThat(result.getUpdated()).extracting(ShowBatchResult.Item::getStatus).containsExactly(
+                ShowBatchResult.Status.UPDATED,
+                ShowBatchResult.Status.STALE_VERSION,
+                ShowBatchResult.Status.NOT_FOUND);
+        assertThat(result.getCreated()).extracting(ShowBatchResult.Item::getStatus).containsOnly(
+                ShowBatchResult.Status.CREATED);
+        verify(showWriteRepository).insertAll(List.of(reuse, afterStale, afterMissing));
     }
-} 
\ No newline at end of file
+}
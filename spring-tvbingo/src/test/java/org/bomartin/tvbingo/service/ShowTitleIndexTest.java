@@ -0,0 +1,137 @@
+package org.bomartin.tvbingo.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bomartin.tvbingo.dto.ShowSuggestion;
+import org.bomartin.tvbingo.dto.ShowSummary;
+import org.bomartin.tvbingo.repository.ShowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ShowTitleIndexTest {
+
+    @Mock
+    private ShowRepository showRepository;
+
+    private MeterRegistry meterRegistry;
+    private ShowTitleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new ShowTitleIndex(showRepository, meterRegistry);
+        when(showRepository.findAllSummaries()).thenReturn(List.of(
+                summary(1L, "The Office"),
+                summary(2L, "Office Space"),
+                summary(3L, "Pokémon"),
+                summary(4L, "Lost")));
+        index.rebuild();
+    }
+
+    private static ShowSummary summary(long id, String title) {
+        return ShowSummary.builder().id(id).showTitle(title).build();
+    }
+
+    private static List<String> titles(List<ShowSuggestion> suggestions) {
+        return suggestions.stream().map(ShowSuggestion::getShowTitle).toList();
+    }
+
+    @Test
+    void suggest_ShouldMatchWordStartsAndRankTitleStartsFirst() {
+        assertThat(titles(index.suggest("off", 10))).containsExactly("Office Space", "The Office");
+    }
+
+    @Test
+    void suggest_ShouldIgnoreCaseAccentsAndExtraSpaces() {
+        assertThat(titles(index.suggest("  POKEM", 10))).containsExactly("Pokémon");
+        assertThat(titles(index.suggest("the   off", 10))).containsExactly("The Office");
+    }
+
+    @Test
+    void suggest_ShouldRespectLimitAndIgnoreBlankPrefix() {
+        assertThat(index.suggest("o", 1)).hasSize(1);
+        assertThat(index.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    void put_ShouldReplaceOldTitle() {
+        index.put(4L, "Lost in Space");
+
+        assertThat(titles(index.suggest("spa", 10))).containsExactly("Office Space", "Lost in Space");
+        assertThat(index.suggest("lost", 10)).extracting(ShowSuggestion::getId).containsExactly(4L);
+    }
+
+    @Test
+    void removeAndPutAll_ShouldUpdateSuggestions() {
+        index.remove(1L);
+        index.putAll(Map.of(5L, "Offspring"));
+
+        assertThat(titles(index.suggest("off", 10))).containsExactly("Offspring", "Office Space");
+    }
+
+    @Test
+    void suggest_ShouldKeepTitleStartsWhenWordStartsExceedTheCap() {
+        for (long id = 10; id < 10 + ShowTitleIndex.MAX_CANDIDATES; id++) {
+            // "zed ..." sorts before "zzz", so a single scan would fill up on these
+            index.put(id, "A Zed " + id);
+        }
+        index.put(5L, "Zzz");
+
+        assertThat(titles(index.suggest("z", 1))).containsExactly("Zzz");
+    }
+
+    @Test
+    void put_PastTheDeltaLimit_ShouldMergeChangesIntoTheSnapshot() {
+        index.remove(4L);
+        for (long id = 10; id <= 10 + ShowTitleIndex.MAX_DELTA; id++) {
+            index.put(id, "Lost Episode " + id);
+        }
+        index.put(3L, "Pokémon Go");
+
+        assertThat(index.suggest("lost", 100)).hasSize(ShowTitleIndex.MAX_DELTA + 1)
+                .extracting(ShowSuggestion::getId).doesNotContain(4L);
+        assertThat(titles(index.suggest("go", 10))).containsExactly("Pokémon Go");
+        assertThat(titles(index.suggest("episode 10", 10))).containsExactly("Lost Episode 10");
+    }
+
+    @Test
+    void rebuild_ShouldKeepWritesMadeWhileReadingTheDatabase() {
+        when(showRepository.findAllSummaries()).thenAnswer(invocation -> {
+            index.put(5L, "New Show");
+            index.remove(4L);
+            return List.of(summary(1L, "The Office"), summary(4L, "Lost"));
+        });
+
+        index.rebuild();
+
+        assertThat(titles(index.suggest("new", 10))).containsExactly("New Show");
+        assertThat(index.suggest("lost", 10)).isEmpty();
+        assertThat(index.suggest("office space", 10)).isEmpty();
+    }
+
+    @Test
+    void put_WhenOnlyCaseChanges_ShouldReturnNewTitle() {
+        index.put(4L, "LOST");
+
+        assertThat(titles(index.suggest("lost", 10))).containsExactly("LOST");
+        assertThat(meterRegistry.get("tvbingo.suggest.index.keys").gauge().value()).isEqualTo(6);
+    }
+
+    @Test
+    void rebuild_ShouldPublishSizeAndBuildTimeMetrics() {
+        assertThat(meterRegistry.get("tvbingo.suggest.index.titles").gauge().value()).isEqualTo(4);
+        // "the office", "office", "office space", "space", "pokemon", "lost"
+        assertThat(meterRegistry.get("tvbingo.suggest.index.keys").gauge().value()).isEqualTo(6);
+        assertThat(meterRegistry.get("tvbingo.suggest.index.build").timer().count()).isEqualTo(1);
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -190,7 +191,7 @@ class ValidPhrasesValidatorTest {
     }
 
     @Test
-    void isValid_WithMultipleDuplicates_ShouldReportFirstDuplicate() {
+    void isValid_WithMultipleDuplicates_ShouldReportEveryDuplicate() {
         // Given - list with multiple duplicates
         List<String> phrases = Arrays.asList(
             "First",
@@ -205,14 +206,84 @@ class ValidPhrasesValidatorTest {
         // When
         boolean result = validator.isValid(phrases, context);
 
-        // Then
+        // Then - one message listing both, in index order
         assertFalse(result);
         verify(context).disableDefaultConstraintViolation();
-        verify(context).buildConstraintViolationWithTemplate(contains("index 2"));
-        verify(context).buildConstraintViolationWithTemplate(contains("First"));
+        verify(context).buildConstraintViolationWithTemplate(
+            "Duplicate phrase found at index 2: 'First' (same as index 0); "
+                + "Duplicate phrase found at index 4: 'Second' (same as index 1)");
         verify(builder).addConstraintViolation();
     }
 
+    @Test
+    void isValid_WithDuplicateAndTooLongPhrases_ShouldReportBoth() {
+        // Given
+        List<String> phrases = Arrays.asList(
+            "This phrase is way too long and exceeds the fifty character limit", // 66 chars
+            "Valid phrase",
+            "Valid phrase"
+        );
+
+        when(context.buildConstraintViolationWithTemplate(anyString())).thenReturn(builder);
+
+        // When
+        boolean result = validator.isValid(phrases, context);
+
+        // Then
+        assertFalse(result);
+        verify(context).buildConstraintViolationWithTemplate(
+            "Phrase at index 0 must not exceed 50 characters (got 66); "
+                + "Duplicate phrase found at index 2: 'Valid phrase' (same as index 1)");
+        verify(builder).addConstraintViolation();
+    }
+
+    @Test
+    void isValid_WithPhrasesDifferingOnlyInCaseOrWhitespace_ShouldReportDuplicates() {
+        // Given
+        List<String> phrases = Arrays.asList(
+            "Come on in guys",
+            " come  ON in\tguys ",
+            "Come on inguys"
+        );
+
+        when(context.buildConstraintViolationWithTemplate(anyString())).thenReturn(builder);
+
+        // When
+        boolean result = validator.isValid(phrases, context);
+
+        // Then - only index 1 collides; removing a space changes the phrase
+        assertFalse(result);
+        verify(context).buildConstraintViolationWithTemplate(
+            "Duplicate phrase found at index 1: ' come  ON in\tguys ' (same as index 0)");
+    }
+
+    @Test
+    void isValid_WithDuplicateContainingBraces_ShouldEscapeMessageTemplate() {
+        // Given
+        List<String> phrases = Arrays.asList("{jedi}", "{jedi}");
+
+        when(context.buildConstraintViolationWithTemplate(anyString())).thenReturn(builder);
+
+        // When
+        validator.isValid(phrases, context);
+
+        // Then
+        verify(context).buildConstraintViolationWithTemplate(contains("'\\{jedi\\}'"));
+    }
+
+    @Test
+    void isValid_WithManyUniquePhrases_ShouldReturnTrue() {
+        // Given - a long list, well past the 150 a ShowRequest allows
+        List<String> phrases = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            phrases.add("Phrase " + i);
+        }
+
+        // When & Then
+        assertTrue(validator.isValid(phrases, context));
+        verifyNoInteractions(context);
+    }
+
     @Test
     void isValid_WithConsecutiveDuplicates_ShouldReturnFalse() {
         // Given - list with consecutive duplicate phrases
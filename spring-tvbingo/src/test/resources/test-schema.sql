@@ -1,8 +1,11 @@
 -- Create schema if it doesn't exist
 CREATE SCHEMA IF NOT EXISTS tvbingo_schema;
 
--- Drop table if it exists (for clean state)
+-- Drop tables if they exist (for clean state)
+DROP TABLE IF EXISTS tvbingo_schema.games CASCADE;
 DROP TABLE IF EXISTS tvbingo_schema.shows CASCADE;
+DROP TABLE IF EXISTS tvbingo_schema.phrases CASCADE;
+DROP TABLE IF EXISTS tvbingo_schema.show_list_version CASCADE;
 
 -- Create shows table
 CREATE TABLE tvbingo_schema.shows (
@@ -10,11 +13,135 @@ CREATE TABLE tvbingo_schema.shows (
     show_title VARCHAR(255) NOT NULL,
     game_title VARCHAR(255),
     center_square VARCHAR(255),
-    phrases TEXT[]
+    -- Phrase dictionary ids in phrase order (changeSet 11)
+    phrase_ids INTEGER[] NOT NULL DEFAULT '{}',
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now()
 );
 
+-- Bump version and updated_at on every update (changeSet 07). The body is
+-- single-quoted because the script splitter does not understand $$ quoting.
+CREATE OR REPLACE FUNCTION tvbingo_schema.bump_show_version() RETURNS trigger AS '
+BEGIN
+    NEW.version := OLD.version + 1;
+    NEW.updated_at := now();
+    RETURN NEW;
+END;
+' LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_shows_bump_version BEFORE UPDATE ON tvbingo_schema.shows
+    FOR EACH ROW EXECUTE FUNCTION tvbingo_schema.bump_show_version();
+
+-- Counter behind the show list ETag, bumped by every write statement (changeSet 12)
+CREATE TABLE tvbingo_schema.show_list_version (
+    id BOOLEAN PRIMARY KEY DEFAULT true CHECK (id),
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+INSERT INTO tvbingo_schema.show_list_version (version) VALUES (0);
+
+CREATE OR REPLACE FUNCTION tvbingo_schema.bump_show_list_version() RETURNS trigger AS '
+BEGIN
+    UPDATE tvbingo_schema.show_list_version SET version = version + 1, updated_at = now();
+    RETURN NULL;
+END;
+' LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_shows_bump_list_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON tvbingo_schema.shows
+    FOR EACH STATEMENT EXECUTE FUNCTION tvbingo_schema.bump_show_list_version();
+
 -- Create unique constraint on show_title
 ALTER TABLE tvbingo_schema.shows ADD CONSTRAINT uk_shows_show_title UNIQUE (show_title);
 
 -- Create index on show_title
-CREATE INDEX IF NOT EXISTS idx_shows_show_title ON tvbingo_schema.shows (show_title);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS idx_shows_show_title ON tvbingo_schema.shows (show_title);
+
+-- Full-text and trigram search (changeSet 08). The extension lives in
+-- tvbingo_schema because currentSchema leaves public off the search path.
+CREATE EXTENSION IF NOT EXISTS pg_trgm SCHEMA tvbingo_schema;
+
+CREATE OR REPLACE FUNCTION tvbingo_schema.phrases_text(text[]) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE AS 'SELECT coalesce(array_to_string($1, '' ''), '''')';
+
+-- Phrase dictionary (changeSets 09 to 11): one row per distinct phrase text,
+-- which is what shows.phrase_ids holds. normalized groups spellings that only
+-- differ in case, punctuation or spacing, for analytics.
+CREATE TABLE tvbingo_schema.phrases (
+    id SERIAL PRIMARY KEY,
+    normalized TEXT NOT NULL,
+    text TEXT NOT NULL,
+    CONSTRAINT uk_phrases_text UNIQUE (text)
+);
+
+CREATE INDEX idx_phrases_normalized ON tvbingo_schema.phrases (normalized);
+CREATE INDEX idx_phrases_text_trgm ON tvbingo_schema.phrases USING gin (text tvbingo_schema.gin_trgm_ops);
+
+CREATE OR REPLACE FUNCTION tvbingo_schema.normalize_phrase(text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE AS
+    'SELECT coalesce(
+        nullif(btrim(regexp_replace(regexp_replace(lower($1), ''[^[:alnum:][:space:]]+'', '''', ''g''), ''[[:space:]]+'', '' '', ''g'')), ''''),
+        btrim(regexp_replace(lower($1), ''[[:space:]]+'', '' '', ''g'')))';
+
+CREATE OR REPLACE FUNCTION tvbingo_schema.intern_phrases(text[]) RETURNS integer[] AS '
+BEGIN
+    INSERT INTO tvbingo_schema.phrases (normalized, text)
+    SELECT tvbingo_schema.normalize_phrase(u.p), u.p
+    FROM (SELECT DISTINCT p FROM unnest($1) AS p WHERE p IS NOT NULL) AS u
+    WHERE NOT EXISTS (SELECT 1 FROM tvbingo_schema.phrases d WHERE d.text = u.p)
+    ON CONFLICT (text) DO NOTHING;
+
+    RETURN ARRAY(
+        SELECT d.id FROM unnest($1) WITH ORDINALITY AS u(p, ord)
+        LEFT JOIN tvbingo_schema.phrases d ON d.text = u.p
+        ORDER BY u.ord);
+END;
+' LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION tvbingo_schema.phrase_texts(integer[]) RETURNS text[]
+    LANGUAGE sql STABLE PARALLEL SAFE AS
+    'SELECT ARRAY(
+        SELECT d.text FROM unnest($1) WITH ORDINALITY AS u(id, ord)
+        LEFT JOIN tvbingo_schema.phrases d ON d.id = u.id
+        ORDER BY u.ord)';
+
+-- search_vector reads the dictionary, so a trigger keeps it rather than a
+-- generated column
+ALTER TABLE tvbingo_schema.shows ADD COLUMN search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION tvbingo_schema.update_show_search_vector() RETURNS trigger AS '
+BEGIN
+    NEW.search_vector :=
+        setweight(to_tsvector(''english'', NEW.show_title), ''A'')
+        || setweight(to_tsvector(''english'', coalesce(NEW.game_title, '''')), ''B'')
+        || setweight(to_tsvector(''english'',
+            tvbingo_schema.phrases_text(tvbingo_schema.phrase_texts(NEW.phrase_ids))), ''C'');
+    RETURN NEW;
+END;
+' LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_shows_search_vector
+    BEFORE INSERT OR UPDATE OF show_title, game_title, phrase_ids ON tvbingo_schema.shows
+    FOR EACH ROW EXECUTE FUNCTION tvbingo_schema.update_show_search_vector();
+
+CREATE INDEX idx_shows_search_vector ON tvbingo_schema.shows USING gin (search_vector);
+CREATE INDEX idx_shows_show_title_trgm ON tvbingo_schema.shows USING gin (show_title tvbingo_schema.gin_trgm_ops);
+CREATE INDEX idx_shows_game_title_trgm ON tvbingo_schema.shows USING gin (game_title tvbingo_schema.gin_trgm_ops);
+
+CREATE INDEX idx_shows_phrase_ids ON tvbingo_schema.shows USING gin (phrase_ids);
+
+-- Create games table
+CREATE TABLE tvbingo_schema.games (
+    id BIGSERIAL PRIMARY KEY,
+    show_id BIGINT NOT NULL REFERENCES tvbingo_schema.shows (id) ON DELETE CASCADE,
+    seed BIGINT NOT NULL,
+    pattern VARCHAR(20) NOT NULL,
+    center_square VARCHAR(255),
+    phrases TEXT[],
+    marked INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_games_show_id ON tvbingo_schema.games (show_id);
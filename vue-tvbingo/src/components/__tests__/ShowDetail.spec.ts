@@ -250,6 +250,59 @@ describe('ShowDetail.vue', () => {
 
       expect(mockPush).not.toHaveBeenCalled()
     })
+
+    it('shows the server message and a reload button when the show changed since it was loaded', async () => {
+      mockHasUnsavedChanges.value = true
+      vi.mocked(showService.updateShow).mockRejectedValue(
+        new ApiError('Conflict', 409, {
+          error: 'The show was changed by someone else. Reload it and try again.'
+        })
+      )
+
+      const wrapper = mount(ShowDetail, mountOptions())
+      await flushPromises()
+
+      await wrapper.find('form').trigger('submit')
+      await flushPromises()
+
+      expect(wrapper.text()).toContain('The show was changed by someone else. Reload it and try again.')
+      expect(wrapper.text()).not.toContain('Show title must be unique')
+      expect(wrapper.find('.reload-btn').exists()).toBe(true)
+    })
+
+    it('reloads the latest show when reload is clicked after a stale edit', async () => {
+      mockHasUnsavedChanges.value = true
+      vi.mocked(showService.updateShow).mockRejectedValue(
+        new ApiError('Conflict', 409, { error: 'The show was changed by someone else.' })
+      )
+
+      const wrapper = mount(ShowDetail, mountOptions())
+      await flushPromises()
+      await wrapper.find('form').trigger('submit')
+      await flushPromises()
+
+      vi.mocked(showService.getShowById).mockResolvedValue({ ...mockShow, showTitle: 'The Office (US)' })
+      await wrapper.find('.reload-btn').trigger('click')
+      await flushPromises()
+
+      expect(showService.getShowById).toHaveBeenCalledTimes(2)
+      expect(wrapper.find('.reload-btn').exists()).toBe(false)
+      expect(wrapper.find('[role="alert"]').exists()).toBe(false)
+    })
+
+    it('does not show a reload button for a duplicate title', async () => {
+      mockHasUnsavedChanges.value = true
+      vi.mocked(showService.updateShow).mockRejectedValue(
+        new ApiError('Conflict', 409, { showTitle: 'Show title must be unique' })
+      )
+
+      const wrapper = mount(ShowDetail, mountOptions())
+      await flushPromises()
+      await wrapper.find('form').trigger('submit')
+      await flushPromises()
+
+      expect(wrapper.find('.reload-btn').exists()).toBe(false)
+    })
   })
 
   describe('Save — 404 not found', () => {
@@ -4,6 +4,8 @@ export interface Show {
   gameTitle?: string
   centerSquare?: string
   phrases: string[]
+  // Sent back on update so the server can reject edits to a stale copy (409)
+  version?: number
 }
 
 export type CreateShowInput = Omit<Show, 'id'>